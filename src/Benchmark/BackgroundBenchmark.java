@@ -0,0 +1,55 @@
+package Benchmark;
+
+import Logic.MapManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * {@link MapManager#drawBackground} of a 1920x1080 viewport into an offscreen image,
+ * with the camera jumping between seeded positions.
+ */
+public class BackgroundBenchmark extends Benchmark {
+    private static final long SEED = 3L;
+    private static final int VIEW_WIDTH = 1920;
+    private static final int VIEW_HEIGHT = 1080;
+    private static final int CAMERA_COUNT = 64;
+
+    private MapManager mapManager;
+    private BufferedImage target;
+    private final int[] cameras = new int[CAMERA_COUNT * 2];
+    private int next;
+
+    public BackgroundBenchmark() {
+        super("render/drawBackground");
+    }
+
+    @Override
+    public void setUp() {
+        mapManager = new MapManager("Map1.txt");
+        target = new BufferedImage(VIEW_WIDTH, VIEW_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(SEED);
+        for (int i = 0; i < cameras.length; i++) {
+            cameras[i] = random.nextInt(20_000) - 10_000;
+        }
+    }
+
+    @Override
+    public long run(int operations) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            int cameraX = cameras[next * 2];
+            int cameraY = cameras[next * 2 + 1];
+            next = (next + 1) % CAMERA_COUNT;
+
+            Graphics2D g2d = target.createGraphics();
+            g2d.translate(-cameraX, -cameraY);
+            g2d.setClip(cameraX, cameraY, VIEW_WIDTH, VIEW_HEIGHT);
+            mapManager.drawBackground(g2d);
+            g2d.dispose();
+            result += target.getRGB(VIEW_WIDTH / 2, VIEW_HEIGHT / 2);
+        }
+        return result;
+    }
+}
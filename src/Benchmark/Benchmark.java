@@ -0,0 +1,46 @@
+package Benchmark;
+
+/**
+ * A single measurable workload for {@link BenchmarkRunner}.
+ * The runner calls {@link #setUp()} once, then repeatedly calls {@link #beforeSample()}
+ * (untimed) followed by a timed {@link #run(int)}. Workloads must be deterministic for a
+ * given seed so numbers are comparable before and after a change.
+ */
+public abstract class Benchmark {
+    private final String name;
+
+    protected Benchmark(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Builds the fixture. Not timed.
+     */
+    public void setUp() {
+    }
+
+    /**
+     * Restores any state mutated by the previous sample. Not timed.
+     */
+    public void beforeSample() {
+    }
+
+    /**
+     * Number of operations to batch into one timed sample, so that very cheap
+     * operations are not dominated by timer overhead.
+     */
+    public int getOperationsPerSample() {
+        return 1;
+    }
+
+    /**
+     * Performs the given number of operations.
+     *
+     * @return A value derived from the results, consumed by the runner so the work cannot be optimised away
+     */
+    public abstract long run(int operations);
+}
@@ -0,0 +1,84 @@
+package Benchmark;
+
+import Logic.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line runner for the in-tree benchmark suite.
+ * Each benchmark is warmed up for a fixed time, then sampled for a fixed time; the
+ * per-operation cost of every sample goes into a {@link LatencyHistogram}.
+ *
+ * <pre>
+ * java -Djava.awt.headless=true -cp out:res Benchmark.BenchmarkRunner [name-filter]
+ * </pre>
+ */
+public class BenchmarkRunner {
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        String filter = args.length > 0 ? args[0] : "";
+
+        List<Benchmark> benchmarks = new ArrayList<>();
+        for (int enemyCount : new int[]{100, 500, 2000}) {
+            benchmarks.add(new CollisionsBenchmark(enemyCount));
+        }
+        benchmarks.add(new EnemyMovementBenchmark(false));
+        benchmarks.add(new EnemyMovementBenchmark(true));
+        benchmarks.add(new PathFindingBenchmark());
+        benchmarks.add(new WallQueryBenchmark(WallQueryBenchmark.Query.IS_WALL));
+        benchmarks.add(new WallQueryBenchmark(WallQueryBenchmark.Query.LINE_OF_SIGHT));
+        benchmarks.add(new WallQueryBenchmark(WallQueryBenchmark.Query.CLEAR_PATH));
+        benchmarks.add(new WallQueryBenchmark(WallQueryBenchmark.Query.RAYCAST));
+        benchmarks.add(new FlowFieldBenchmark(FlowFieldBenchmark.Mode.REPAIR));
+        benchmarks.add(new FlowFieldBenchmark(FlowFieldBenchmark.Mode.FULL));
+        benchmarks.add(new BackgroundBenchmark());
+
+        System.out.println(String.format("%-32s %10s %12s %12s %12s %12s",
+                "benchmark", "ops", "mean ns/op", "p50 ns/op", "p99 ns/op", "max ns/op"));
+
+        for (Benchmark benchmark : benchmarks) {
+            if (!benchmark.getName().contains(filter)) continue;
+            run(benchmark);
+        }
+    }
+
+    private static void run(Benchmark benchmark) {
+        benchmark.setUp();
+        int operations = benchmark.getOperationsPerSample();
+
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmupEnd) {
+            benchmark.beforeSample();
+            sink += benchmark.run(operations);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        long totalOperations = 0;
+        long totalNanos = 0;
+        long measureEnd = System.nanoTime() + MEASURE_NANOS;
+        while (System.nanoTime() < measureEnd) {
+            benchmark.beforeSample();
+            long start = System.nanoTime();
+            sink += benchmark.run(operations);
+            long elapsed = System.nanoTime() - start;
+
+            histogram.record(elapsed / operations);
+            totalOperations += operations;
+            totalNanos += elapsed;
+        }
+
+        System.out.println(String.format("%-32s %10d %12d %12d %12d %12d",
+                benchmark.getName(),
+                totalOperations,
+                totalOperations == 0 ? 0 : totalNanos / totalOperations,
+                histogram.getPercentile(50),
+                histogram.getPercentile(99),
+                histogram.getMax()));
+    }
+}
@@ -0,0 +1,81 @@
+package Benchmark;
+
+import Enemies.Enemy;
+import Logic.Collisions;
+import Logic.DamageNumber.DamageNumberManager;
+import Logic.EnemyStore;
+import Logic.GameLogic;
+import Logic.WallManager;
+import Player.Player;
+import Player.PlayerProjectile;
+
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One full {@link Collisions#checkCollisions()} pass, including enemy movement,
+ * with a fixed number of enemies scattered around the player.
+ */
+public class CollisionsBenchmark extends Benchmark {
+    private static final long SEED = 42L;
+
+    private final int enemyCount;
+    private Player player;
+    private EnemyStore enemies;
+    private Collisions collisions;
+    private int[] startX;
+    private int[] startY;
+
+    public CollisionsBenchmark(int enemyCount) {
+        super("collisions/" + enemyCount);
+        this.enemyCount = enemyCount;
+    }
+
+    @Override
+    public void setUp() {
+        WallManager wallManager = Fixtures.createWalls();
+        player = new Player(0, 0, Integer.MAX_VALUE / 2);
+        enemies = new EnemyStore();
+        startX = new int[enemyCount];
+        startY = new int[enemyCount];
+
+        Random random = new Random(SEED);
+        int maxRadius = Fixtures.CHUNK_PIXELS;
+        while (enemies.size() < enemyCount) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            int radius = 200 + random.nextInt(maxRadius);
+            int x = (int) (Math.cos(angle) * radius);
+            int y = (int) (Math.sin(angle) * radius);
+            if (wallManager.isWall(x, y)) continue;
+
+            startX[enemies.size()] = x;
+            startY[enemies.size()] = y;
+            enemies.add(new Enemy(x, y, 100, Enemy.Type.NORMAL));
+        }
+
+        collisions = new Collisions(player, enemies, new CopyOnWriteArrayList<PlayerProjectile>(),
+                new DamageNumberManager(), wallManager, null);
+    }
+
+    @Override
+    public void beforeSample() {
+        player.setX(0);
+        player.setY(0);
+        GameLogic.updateCamera(player);
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.setX(startX[i]);
+            enemy.setY(startY[i]);
+        }
+    }
+
+    @Override
+    public long run(int operations) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            collisions.checkCollisions();
+            result += player.getX();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package Benchmark;
+
+import Enemies.Enemy;
+import Logic.EnemyMovement;
+import Logic.EnemyStore;
+import Logic.GameLogic;
+import Logic.WallManager;
+import Player.Player;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * One {@link EnemyMovement} tick for a large mixed wave, either on the calling thread or
+ * split over a fork-join pool.
+ *
+ * <p>Before measuring, the parallel variant moves two identical waves for a number of
+ * ticks, one serially and one in parallel, and fails if any enemy ends up somewhere
+ * else, since moving in parallel must not change the outcome.</p>
+ */
+public class EnemyMovementBenchmark extends Benchmark {
+    private static final long SEED = 23L;
+    private static final int ENEMY_COUNT = 1000;
+    private static final int PARALLELISM = 4;
+    private static final int VERIFY_TICKS = 120;
+    private static final Enemy.Type[] TYPES = {
+            Enemy.Type.NORMAL, Enemy.Type.SHOOTING, Enemy.Type.GIANT, Enemy.Type.ZOMBIE, Enemy.Type.SMALL
+    };
+
+    private final boolean parallel;
+    private WallManager wallManager;
+    private Player player;
+    private EnemyStore enemies;
+    private EnemyMovement movement;
+    private int[] startX;
+    private int[] startY;
+    private long tick;
+
+    public EnemyMovementBenchmark(boolean parallel) {
+        super(parallel ? "movement/parallel" : "movement/serial");
+        this.parallel = parallel;
+    }
+
+    @Override
+    public void setUp() {
+        wallManager = Fixtures.createWalls();
+        player = new Player(0, 0, Integer.MAX_VALUE / 2);
+        GameLogic.updateCamera(player);
+
+        startX = new int[ENEMY_COUNT];
+        startY = new int[ENEMY_COUNT];
+        Random random = new Random(SEED);
+        int extent = Fixtures.CHUNK_PIXELS;
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            int x, y;
+            do {
+                x = random.nextInt(extent * 2) - extent;
+                y = random.nextInt(extent * 2) - extent;
+            } while (wallManager.isWall(x, y));
+            startX[i] = x;
+            startY[i] = y;
+        }
+
+        if (parallel) {
+            verifyMatchesSerial();
+        }
+        enemies = createWave();
+        movement = new EnemyMovement(new ForkJoinPool(parallel ? PARALLELISM : 1));
+    }
+
+    @Override
+    public void beforeSample() {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.setX(startX[i]);
+            enemy.setY(startY[i]);
+        }
+        Enemy.clearAllProjectiles();
+    }
+
+    @Override
+    public long run(int operations) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            movement.move(enemies, player, wallManager, ++tick);
+            result += enemies.get(0).getX();
+        }
+        return result;
+    }
+
+    private EnemyStore createWave() {
+        EnemyStore wave = new EnemyStore();
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            wave.add(new Enemy(startX[i], startY[i], 100, TYPES[i % TYPES.length]));
+        }
+        return wave;
+    }
+
+    private void verifyMatchesSerial() {
+        EnemyStore serialWave = createWave();
+        EnemyStore parallelWave = createWave();
+        EnemyMovement serial = new EnemyMovement(new ForkJoinPool(1));
+        EnemyMovement split = new EnemyMovement(new ForkJoinPool(PARALLELISM));
+
+        for (int t = 1; t <= VERIFY_TICKS; t++) {
+            serial.move(serialWave, player, wallManager, t);
+            split.move(parallelWave, player, wallManager, t);
+            for (int i = 0; i < ENEMY_COUNT; i++) {
+                Enemy expected = serialWave.get(i);
+                Enemy actual = parallelWave.get(i);
+                if (expected.getX() != actual.getX() || expected.getY() != actual.getY()) {
+                    throw new IllegalStateException("Parallel movement moved enemy " + i + " to "
+                            + actual.getX() + "," + actual.getY() + " instead of "
+                            + expected.getX() + "," + expected.getY() + " on tick " + t);
+                }
+            }
+        }
+        Enemy.clearAllProjectiles();
+    }
+}
@@ -0,0 +1,40 @@
+package Benchmark;
+
+import Logic.WallManager;
+import Player.Player;
+import UI.GamePanel;
+
+/**
+ * Shared deterministic fixtures for the benchmarks.
+ */
+final class Fixtures {
+    /** Chunk radius around the origin whose permanent walls are generated. */
+    static final int WORLD_CHUNK_RADIUS = 2;
+    static final int CHUNK_PIXELS = GamePanel.BLOCK_SIZE * 20;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a wall manager with the permanent chunk walls generated around the origin.
+     * Chunk layouts are seeded by chunk coordinates, so the result is identical on every run.
+     */
+    static WallManager createWalls() {
+        return generateWalls(new WallManager());
+    }
+
+    /**
+     * Generates the same permanent chunk walls as {@link #createWalls()} into an existing manager.
+     */
+    static <T extends WallManager> T generateWalls(T wallManager) {
+        Player probe = new Player(0, 0, 100);
+        for (int cy = -WORLD_CHUNK_RADIUS; cy <= WORLD_CHUNK_RADIUS; cy++) {
+            for (int cx = -WORLD_CHUNK_RADIUS; cx <= WORLD_CHUNK_RADIUS; cx++) {
+                probe.setX(cx * CHUNK_PIXELS + CHUNK_PIXELS / 2);
+                probe.setY(cy * CHUNK_PIXELS + CHUNK_PIXELS / 2);
+                wallManager.update(probe, true);
+            }
+        }
+        return wallManager;
+    }
+}
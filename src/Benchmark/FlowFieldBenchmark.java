@@ -0,0 +1,172 @@
+package Benchmark;
+
+import Logic.FlowField;
+import Logic.WallChange;
+import Logic.WallManager;
+import UI.GamePanel;
+
+import java.util.Random;
+
+/**
+ * Keeping the shared {@link FlowField} current while small wall patches appear and
+ * disappear around its target. In repair mode the field is told about every change and
+ * patches itself; in full mode it is swept from scratch each time.
+ *
+ * <p>Before measuring, repair mode replays a run of changes and checks each repaired
+ * field tile by tile against a full sweep, so a wrong repair fails the run instead of
+ * showing up as a fast number.</p>
+ */
+public class FlowFieldBenchmark extends Benchmark {
+    public enum Mode { REPAIR, FULL }
+
+    private static final long SEED = 13L;
+    private static final int CHANGE_COUNT = 512;
+    private static final int VERIFY_CHANGES = 256;
+    /** Patches stay this many tiles inside the field so every change is visible to it. */
+    private static final int PATCH_REACH = FlowField.RADIUS - 4;
+
+    private final Mode mode;
+    private final int[] patches = new int[CHANGE_COUNT * 4];
+    private PatchedWalls walls;
+    private FlowField field;
+    private int targetX;
+    private int targetY;
+    private int next;
+
+    public FlowFieldBenchmark(Mode mode) {
+        super(switch (mode) {
+            case REPAIR -> "flowfield/repair";
+            case FULL -> "flowfield/fullSweep";
+        });
+        this.mode = mode;
+    }
+
+    @Override
+    public void setUp() {
+        walls = Fixtures.generateWalls(new PatchedWalls());
+        int targetTileX = 0;
+        while (walls.isWallTile(targetTileX, 0)) {
+            targetTileX++;
+        }
+        targetX = targetTileX * GamePanel.BLOCK_SIZE + GamePanel.BLOCK_SIZE / 2;
+        targetY = GamePanel.BLOCK_SIZE / 2;
+        walls.centre(targetTileX, 0);
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            int minX = targetTileX + random.nextInt(PATCH_REACH * 2 + 1) - PATCH_REACH;
+            int minY = random.nextInt(PATCH_REACH * 2 + 1) - PATCH_REACH;
+            int width = 1 + random.nextInt(4);
+            int height = 1 + random.nextInt(2);
+            patches[i * 4] = minX;
+            patches[i * 4 + 1] = minY;
+            patches[i * 4 + 2] = minX + width - 1;
+            patches[i * 4 + 3] = minY + height - 1;
+        }
+
+        field = new FlowField();
+        field.update(targetX, targetY, walls);
+        if (mode == Mode.REPAIR) {
+            verifyRepairs();
+        }
+    }
+
+    @Override
+    public int getOperationsPerSample() {
+        return 4;
+    }
+
+    @Override
+    public long run(int operations) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            int p = applyNextPatch();
+            field.update(targetX, targetY, walls);
+            result += field.getDistance(patches[p], patches[p + 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Toggles the next patch and tells the field about it the way the current mode would.
+     *
+     * @return Index of the patch bounds in {@link #patches}
+     */
+    private int applyNextPatch() {
+        int p = next * 4;
+        next = (next + 1) % CHANGE_COUNT;
+        walls.toggle(patches[p], patches[p + 1], patches[p + 2], patches[p + 3]);
+        if (mode == Mode.REPAIR) {
+            field.onWallsChanged(WallChange.region(patches[p], patches[p + 1], patches[p + 2], patches[p + 3],
+                    walls.getWallVersion()));
+        } else {
+            field.invalidate();
+        }
+        return p;
+    }
+
+    private void verifyRepairs() {
+        int centreTileX = WallManager.toTile(targetX);
+        int centreTileY = WallManager.toTile(targetY);
+        for (int i = 0; i < VERIFY_CHANGES; i++) {
+            applyNextPatch();
+            field.update(targetX, targetY, walls);
+            if (!field.wasLastUpdateRepair()) {
+                throw new IllegalStateException("Flow field fell back to a full sweep after change " + i);
+            }
+
+            FlowField reference = new FlowField();
+            reference.update(targetX, targetY, walls);
+            for (int y = centreTileY - FlowField.RADIUS; y <= centreTileY + FlowField.RADIUS; y++) {
+                for (int x = centreTileX - FlowField.RADIUS; x <= centreTileX + FlowField.RADIUS; x++) {
+                    if (field.getDistance(x, y) != reference.getDistance(x, y)) {
+                        throw new IllegalStateException("Repaired flow field differs from a full sweep at tile "
+                                + x + "," + y + " after change " + i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Generated walls with tiles near the field's target flipped on top of them.
+     */
+    private static final class PatchedWalls extends WallManager {
+        private static final int SIZE = FlowField.RADIUS * 2 + 1;
+
+        private final boolean[] flipped = new boolean[SIZE * SIZE];
+        private int originX;
+        private int originY;
+        private int changes;
+
+        void centre(int tileX, int tileY) {
+            originX = tileX - FlowField.RADIUS;
+            originY = tileY - FlowField.RADIUS;
+        }
+
+        void toggle(int minTileX, int minTileY, int maxTileX, int maxTileY) {
+            for (int y = minTileY; y <= maxTileY; y++) {
+                for (int x = minTileX; x <= maxTileX; x++) {
+                    if (x - originX == FlowField.RADIUS && y - originY == FlowField.RADIUS) continue;
+                    int cell = (y - originY) * SIZE + (x - originX);
+                    flipped[cell] = !flipped[cell];
+                }
+            }
+            changes++;
+        }
+
+        @Override
+        public boolean isWallTile(int tileX, int tileY) {
+            int localX = tileX - originX;
+            int localY = tileY - originY;
+            boolean wall = super.isWallTile(tileX, tileY);
+            if (localX < 0 || localY < 0 || localX >= SIZE || localY >= SIZE) return wall;
+            return wall != flipped[localY * SIZE + localX];
+        }
+
+        @Override
+        public int getWallVersion() {
+            return super.getWallVersion() + changes;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package Benchmark;
+
+import Logic.PathFinding;
+import Logic.WallManager;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ * {@link PathFinding#findNextStep} between seeded start/goal pairs on the generated wall layout.
+ * Only pairs without a clear straight path are used, since those are the ones enemies search for.
+ */
+public class PathFindingBenchmark extends Benchmark {
+    private static final long SEED = 7L;
+    private static final int PAIR_COUNT = 256;
+
+    private WallManager wallManager;
+    private final int[] pairs = new int[PAIR_COUNT * 4];
+    private final Point step = new Point();
+    private int next;
+
+    public PathFindingBenchmark() {
+        super("pathfinding/findNextStep");
+    }
+
+    @Override
+    public void setUp() {
+        wallManager = Fixtures.createWalls();
+        Random random = new Random(SEED);
+        int extent = Fixtures.CHUNK_PIXELS * Fixtures.WORLD_CHUNK_RADIUS;
+        int reach = Fixtures.CHUNK_PIXELS;
+
+        int count = 0;
+        while (count < PAIR_COUNT) {
+            int sx = random.nextInt(extent * 2) - extent;
+            int sy = random.nextInt(extent * 2) - extent;
+            int gx = sx + random.nextInt(reach * 2) - reach;
+            int gy = sy + random.nextInt(reach * 2) - reach;
+            if (wallManager.isWall(sx, sy) || wallManager.isWall(gx, gy)) continue;
+            if (PathFinding.hasClearPath(sx, sy, gx, gy, wallManager)) continue;
+
+            pairs[count * 4] = sx;
+            pairs[count * 4 + 1] = sy;
+            pairs[count * 4 + 2] = gx;
+            pairs[count * 4 + 3] = gy;
+            count++;
+        }
+    }
+
+    @Override
+    public int getOperationsPerSample() {
+        return 16;
+    }
+
+    @Override
+    public long run(int operations) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            int p = next * 4;
+            next = (next + 1) % PAIR_COUNT;
+            PathFinding.findNextStep(pairs[p], pairs[p + 1], pairs[p + 2], pairs[p + 3], wallManager, step);
+            result += step.x + step.y;
+        }
+        return result;
+    }
+}
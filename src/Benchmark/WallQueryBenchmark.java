@@ -0,0 +1,74 @@
+package Benchmark;
+
+import Logic.GridRaycast;
+import Logic.PathFinding;
+import Logic.WallManager;
+
+import java.util.Random;
+
+/**
+ * Point and segment queries against the generated wall layout.
+ * The clear-path query goes through the tile-pair cache for enemy-body corridors, the
+ * raycast query measures the uncached corridor cast underneath it.
+ */
+public class WallQueryBenchmark extends Benchmark {
+    public enum Query { IS_WALL, LINE_OF_SIGHT, CLEAR_PATH, RAYCAST }
+
+    private static final long SEED = 11L;
+    private static final int SAMPLE_COUNT = 4096;
+
+    private final Query query;
+    private final int[] coordinates = new int[SAMPLE_COUNT * 4];
+    private WallManager wallManager;
+    private int next;
+
+    public WallQueryBenchmark(Query query) {
+        super(switch (query) {
+            case IS_WALL -> "walls/isWall";
+            case LINE_OF_SIGHT -> "walls/hasLineOfSight";
+            case CLEAR_PATH -> "walls/hasClearPath";
+            case RAYCAST -> "walls/raycastThick";
+        });
+        this.query = query;
+    }
+
+    @Override
+    public void setUp() {
+        wallManager = Fixtures.createWalls();
+        Random random = new Random(SEED);
+        int extent = Fixtures.CHUNK_PIXELS * Fixtures.WORLD_CHUNK_RADIUS;
+        int reach = Fixtures.CHUNK_PIXELS / 2;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            int x = random.nextInt(extent * 2) - extent;
+            int y = random.nextInt(extent * 2) - extent;
+            coordinates[i * 4] = x;
+            coordinates[i * 4 + 1] = y;
+            coordinates[i * 4 + 2] = x + random.nextInt(reach * 2) - reach;
+            coordinates[i * 4 + 3] = y + random.nextInt(reach * 2) - reach;
+        }
+    }
+
+    @Override
+    public int getOperationsPerSample() {
+        return query == Query.IS_WALL ? 4096 : 256;
+    }
+
+    @Override
+    public long run(int operations) {
+        long hits = 0;
+        for (int i = 0; i < operations; i++) {
+            int c = next * 4;
+            next = (next + 1) % SAMPLE_COUNT;
+            boolean result = switch (query) {
+                case IS_WALL -> wallManager.isWall(coordinates[c], coordinates[c + 1]);
+                case LINE_OF_SIGHT -> wallManager.hasLineOfSight(coordinates[c], coordinates[c + 1], coordinates[c + 2], coordinates[c + 3]);
+                case CLEAR_PATH -> PathFinding.hasClearPath(coordinates[c], coordinates[c + 1], coordinates[c + 2], coordinates[c + 3], wallManager);
+                case RAYCAST -> GridRaycast.isClearThick(coordinates[c], coordinates[c + 1], coordinates[c + 2], coordinates[c + 3],
+                        PathFinding.BODY_CLEARANCE, wallManager);
+            };
+            if (result) hits++;
+        }
+        return hits;
+    }
+}
@@ -2,14 +2,15 @@ package Bosses;
 
 import Core.Game;
 import Enemies.Enemy;
+import Logic.EnemyStore;
+import Logic.GameClock;
 import Logic.GameLogic;
+import Logic.TextureCache;
 import Player.Player;
 import UI.GamePanel;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The Bunny boss enemy with jumping and stomping attacks.
@@ -59,13 +60,13 @@ public class BunnyBoss extends Enemy {
 
         try {
             for (int i = 0; i < 6; i++) {
-                bunnyTexturesRight[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/Bunny/Bunny" + (i + 7) + ".png"));
+                bunnyTexturesRight[i] = TextureCache.get("/WATVA/Boss/Bunny/Bunny" + (i + 7) + ".png");
             }
             bunnyTexturesLeft[0] = bunnyTexturesRight[0];
             for (int i = 0; i < 6; i++) {
-                bunnyTexturesLeft[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/Bunny/Bunny" + (i + 1) + ".png"));
+                bunnyTexturesLeft[i] = TextureCache.get("/WATVA/Boss/Bunny/Bunny" + (i + 1) + ".png");
             }
-            hpBarFrame1 = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/Bunny/BunnyHPBar1.png"));
+            hpBarFrame1 = TextureCache.get("/WATVA/Boss/Bunny/BunnyHPBar1.png");
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -81,7 +82,7 @@ public class BunnyBoss extends Enemy {
      */
     @Override
     public void moveTowards(int targetPlayerX, int targetPlayerY) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (currentTime - lastJumpTime >= JUMP_INTERVAL && !isJumping && !preJump && !isJumpAttack) {
             lastJumpTime = currentTime;
@@ -212,12 +213,14 @@ public class BunnyBoss extends Enemy {
     }
 
     /**
+     * @param out Rectangle to fill
      * @return The collision bounds of the boss
      */
     @Override
-    public Rectangle getCollider() {
-        return new Rectangle(x + Game.scale(30), y + Game.scale(24),
+    public Rectangle getCollider(Rectangle out) {
+        out.setBounds(x + Game.scale(30), y + Game.scale(24),
                 BUNNY_SIZE - Game.scale(48), BUNNY_SIZE - Game.scale(48));
+        return out;
     }
 
     /**
@@ -246,8 +249,8 @@ public class BunnyBoss extends Enemy {
      * @param player The player target
      * @param enemies The enemy list (unused in this implementation)
      */
-    public void updateBossBehavior(Player player, CopyOnWriteArrayList<Enemy> enemies) {
-        long currentTime = System.currentTimeMillis();
+    public void updateBossBehavior(Player player, EnemyStore enemies) {
+        long currentTime = GameClock.now();
 
         if (currentTime - lastSpecialAttackTime >= SPECIAL_ATTACK_INTERVAL) {
             int attackType = (int) (Math.random() * 2);
@@ -272,7 +275,7 @@ public class BunnyBoss extends Enemy {
      */
     private void startGroundStomp() {
         isStomping = true;
-        stompStartTime = System.currentTimeMillis();
+        stompStartTime = GameClock.now();
     }
 
     /**
@@ -280,7 +283,7 @@ public class BunnyBoss extends Enemy {
      * @param player The player to damage
      */
     private void groundStomp(Player player) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - stompStartTime < STOMP_DURATION) {
             double distance = Math.sqrt(Math.pow(player.getX() - x, 2) + Math.pow(player.getY() - y, 2));
             if (distance <= Game.scale(200)) {
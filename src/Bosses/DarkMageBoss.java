@@ -2,13 +2,15 @@ package Bosses;
 
 import Core.Game;
 import Enemies.Enemy;
+import Logic.EnemyStore;
+import Logic.GameClock;
 import Logic.GameLogic;
 import Logic.PathFinding;
+import Logic.TextureCache;
 import Logic.WallManager;
 import Player.Player;
 import UI.GamePanel;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -98,24 +100,24 @@ public class DarkMageBoss extends Enemy {
 
         try {
             for (int i = 0; i < 5; i++) {
-                bossTexturesLeft[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/DarkMage/DarkMage" + (i + 1) + ".png"));
-                bossTexturesRight[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/DarkMage/DarkMage" + (i + 6) + ".png"));
-                bossMeteorAttackTextures[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/DarkMage/DarkMage" + (i + 21) + ".png"));
+                bossTexturesLeft[i] = TextureCache.get("/WATVA/Boss/DarkMage/DarkMage" + (i + 1) + ".png");
+                bossTexturesRight[i] = TextureCache.get("/WATVA/Boss/DarkMage/DarkMage" + (i + 6) + ".png");
+                bossMeteorAttackTextures[i] = TextureCache.get("/WATVA/Boss/DarkMage/DarkMage" + (i + 21) + ".png");
             }
 
             for (int i = 0; i < 10; i++) {
-                deathTextures[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/DarkMage/DarkMage" + (i + 11) + ".png"));
+                deathTextures[i] = TextureCache.get("/WATVA/Boss/DarkMage/DarkMage" + (i + 11) + ".png");
             }
 
             for (int i = 0; i < 6; i++) {
                 try {
-                    meteorExplosionFrames[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Other/Boss_meteor" + (i + 1) + ".png"));
+                    meteorExplosionFrames[i] = TextureCache.get("/WATVA/Other/Boss_meteor" + (i + 1) + ".png");
                 } catch (Exception e) {
                     System.err.println("Could not load meteor explosion frame " + (i + 1));
                 }
             }
 
-            hpBarFrame1 = ImageIO.read(getClass().getResourceAsStream("/WATVA/Boss/DarkMage/DarkMageHPBar1.png"));
+            hpBarFrame1 = TextureCache.get("/WATVA/Boss/DarkMage/DarkMageHPBar1.png");
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -124,7 +126,7 @@ public class DarkMageBoss extends Enemy {
     @Override
     public void draw(Graphics g) {
         if (isDying) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = GameClock.now();
             if (currentTime - deathStartTime >= DEATH_FRAME_DURATION) {
                 deathFrame++;
                 deathStartTime = currentTime;
@@ -199,16 +201,16 @@ public class DarkMageBoss extends Enemy {
         }
     }
 
-    public void updateBossBehavior(Player player, CopyOnWriteArrayList<Enemy> enemies) {
+    public void updateBossBehavior(Player player, EnemyStore enemies) {
         if (isDead) return;
 
         if (hp <= 0 && !isDying) {
             isDying = true;
-            deathStartTime = System.currentTimeMillis();
+            deathStartTime = GameClock.now();
             return;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (isTeleporting) {
             updateTeleport(currentTime);
@@ -282,7 +284,7 @@ public class DarkMageBoss extends Enemy {
 
     private void startTeleport(Player player) {
         isTeleporting = true;
-        teleportStartTime = System.currentTimeMillis();
+        teleportStartTime = GameClock.now();
         lastTeleportTime = teleportStartTime;
         teleportAlpha = 1.0f;
 
@@ -360,7 +362,7 @@ public class DarkMageBoss extends Enemy {
         }
     }
 
-    private void chooseRandomAttack(CopyOnWriteArrayList<Enemy> enemies) {
+    private void chooseRandomAttack(EnemyStore enemies) {
         int choice = (int) (Math.random() * 3);
 
         switch (choice) {
@@ -372,13 +374,13 @@ public class DarkMageBoss extends Enemy {
 
     private void startMeteorAttack() {
         isChannelingMeteors = true;
-        meteorChannelStartTime = System.currentTimeMillis();
+        meteorChannelStartTime = GameClock.now();
         meteorsToSpawn = 25;
         meteorZones.clear();
     }
 
     private void updateMeteorAttack(Player player) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (meteorsToSpawn > 0 && currentTime - lastMeteorSpawnTime > 150) {
             spawnSingleMeteor(player);
@@ -426,13 +428,13 @@ public class DarkMageBoss extends Enemy {
 
     private void startProjectileAttack() {
         isShootingProjectiles = true;
-        projectileAttackStartTime = System.currentTimeMillis();
+        projectileAttackStartTime = GameClock.now();
         lastProjectileTime = projectileAttackStartTime;
         projectilePhase = 0;
     }
 
     private void updateProjectileAttack(Player player) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (currentTime - projectileAttackStartTime >= PROJECTILE_ATTACK_DURATION) {
             isShootingProjectiles = false;
@@ -473,7 +475,7 @@ public class DarkMageBoss extends Enemy {
                 break;
             case 2:
                 for (int i = 0; i < 6; i++) {
-                    double a = Math.toRadians((i * 60) + (System.currentTimeMillis() % 360));
+                    double a = Math.toRadians((i * 60) + (GameClock.now() % 360));
                     projectiles.add(new DarkMageProjectile(centerX, centerY, Math.cos(a), Math.sin(a)));
                 }
                 break;
@@ -498,7 +500,7 @@ public class DarkMageBoss extends Enemy {
         }
     }
 
-    public void summonMinions(CopyOnWriteArrayList<Enemy> enemies) {
+    public void summonMinions(EnemyStore enemies) {
         int radius = Game.scale(150);
         int minionCount = 6;
 
@@ -517,9 +519,10 @@ public class DarkMageBoss extends Enemy {
     }
 
     @Override
-    public Rectangle getCollider() {
+    public Rectangle getCollider(Rectangle out) {
         int padding = Game.scale(30);
-        return new Rectangle(x + padding, y + padding, BOSS_SIZE - padding*2, BOSS_SIZE - padding*2);
+        out.setBounds(x + padding, y + padding, BOSS_SIZE - padding*2, BOSS_SIZE - padding*2);
+        return out;
     }
 
     @Override
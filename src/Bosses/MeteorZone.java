@@ -1,5 +1,7 @@
 package Bosses;
 
+import Logic.GameClock;
+
 import java.awt.*;
 
 public class MeteorZone {
@@ -17,11 +19,11 @@ public class MeteorZone {
         this.x = x;
         this.y = y;
         this.radius = radius;
-        this.createdTime = System.currentTimeMillis();
+        this.createdTime = GameClock.now();
     }
 
     public void update() {
-        long age = System.currentTimeMillis() - createdTime;
+        long age = GameClock.now() - createdTime;
 
         if (age >= WARN_TIME && age < (WARN_TIME + EXPLODE_TIME)) {
             long explosionAge = age - WARN_TIME;
@@ -31,16 +33,16 @@ public class MeteorZone {
     }
 
     public boolean shouldDealDamage() {
-        long age = System.currentTimeMillis() - createdTime;
+        long age = GameClock.now() - createdTime;
         return age >= WARN_TIME && age < (WARN_TIME + EXPLODE_TIME);
     }
 
     public boolean isFinished() {
-        return System.currentTimeMillis() - createdTime > (WARN_TIME + EXPLODE_TIME);
+        return GameClock.now() - createdTime > (WARN_TIME + EXPLODE_TIME);
     }
 
     public void draw(Graphics g, Image[] meteorExplosionFrames) {
-        long age = System.currentTimeMillis() - createdTime;
+        long age = GameClock.now() - createdTime;
         Graphics2D g2d = (Graphics2D) g;
 
         if (age < WARN_TIME) {
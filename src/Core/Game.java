@@ -21,6 +21,7 @@ public class Game extends JFrame {
     private static final int BASE_HEIGHT = 1080;
 
     private static double scaleFactor = 1.0;
+    private static boolean activeRendering = false;
 
     private static double realScreenWidth;
     private static double realScreenHeight;
@@ -122,6 +123,18 @@ public class Game extends JFrame {
         return scaleFactor;
     }
 
+    /**
+     * Selects whether game panels created from now on draw through a BufferStrategy
+     * canvas driven by the game loop instead of Swing repaints.
+     */
+    public static void setActiveRendering(boolean enabled) {
+        activeRendering = enabled;
+    }
+
+    public static boolean isActiveRendering() {
+        return activeRendering;
+    }
+
     public static double getRealScreenWidth() {
         return realScreenWidth;
     }
@@ -130,12 +143,18 @@ public class Game extends JFrame {
         return realScreenHeight;
     }
 
+    /**
+     * @return Scaled game width, or the base width when no window has been created
+     */
     public static int getScaledGameWidth() {
-        return scaledGameWidth;
+        return scaledGameWidth > 0 ? scaledGameWidth : BASE_WIDTH;
     }
 
+    /**
+     * @return Scaled game height, or the base height when no window has been created
+     */
     public static int getScaledGameHeight() {
-        return scaledGameHeight;
+        return scaledGameHeight > 0 ? scaledGameHeight : BASE_HEIGHT;
     }
 
     public static int scale(int value) {
@@ -3,10 +3,14 @@ package Enemies;
 import Logic.DamageNumber.DamageNumber;
 import Logic.DamageNumber.DamageNumberManager;
 import Core.Game;
+import Logic.GameClock;
+import Logic.FlowField;
 import Logic.PathFinding;
+import Logic.PathRequestQueue;
+import Logic.TextureCache;
+import Logic.WallChange;
 import Logic.WallManager;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -30,6 +34,8 @@ public class Enemy {
     public static final int ZOMBIE_SIZE = Game.scale(50);
 
     private static final List<EnemyProjectile> globalProjectiles = new ArrayList<>();
+    private static FlowField flowField;
+    private static PathRequestQueue pathRequestQueue;
 
     private final List<DamageNumber> damageNumbers;
     private final Type type;
@@ -58,8 +64,21 @@ public class Enemy {
     private long lastUnstuckCheck = 0;
 
     private Point nextPathStep = null;
+    private final Point flowStep = new Point();
     private long lastPathCalcTime = 0;
     private static final long PATH_RECALC_INTERVAL = 300;
+    /** Tiles around the planned route in which a wall change forces a new path. */
+    private static final int PATH_CHANGE_MARGIN = 4;
+    private PathRequestQueue.Request pathRequest;
+    private int pathTargetX, pathTargetY;
+
+    // Shared-state effects of the last movement step, applied by commitMovement().
+    private boolean shotPending;
+    private int shotTargetX, shotTargetY;
+    private boolean pathSubmitPending;
+    private int submitStartX, submitStartY, submitGoalX, submitGoalY;
+
+    private int storeHandle = -1;
 
     public Enemy(int x, int y, double hp, Type type) {
         this.x = x;
@@ -86,34 +105,45 @@ public class Enemy {
     private void loadTextures() {
         try {
             switch (type) {
-                case NORMAL -> loadAnimationTextures("Knight", 4, 1, 5);
-                case ZOMBIE -> loadAnimationTextures("Zombie", 4, 1, 5);
-                case GIANT -> loadAnimationTextures("Golem", 6, 7, 1);
-                case SMALL -> staticTexture = loadTexture("/WATVA/Enemy/Small/Small.png");
-                case SHOOTING -> staticTexture = loadTexture("/WATVA/Enemy/Mage/Mage1.png");
+                case NORMAL -> loadAnimationTextures("Knight", 4, 1, 5, NORMAL_SIZE);
+                case ZOMBIE -> loadAnimationTextures("Zombie", 4, 1, 5, ZOMBIE_SIZE);
+                case GIANT -> loadAnimationTextures("Golem", 6, 7, 1, GIANT_SIZE);
+                case SMALL -> staticTexture = TextureCache.get("/WATVA/Enemy/Small/Small.png", SMALL_SIZE, SMALL_SIZE);
+                case SHOOTING -> staticTexture = TextureCache.get("/WATVA/Enemy/Mage/Mage1.png",
+                        SHOOTING_SIZE - Game.scale(20), SHOOTING_SIZE);
             }
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    private void loadAnimationTextures(String enemyName, int frameCount, int rightStartIndex, int leftStartIndex) throws IOException {
+    private void loadAnimationTextures(String enemyName, int frameCount, int rightStartIndex, int leftStartIndex, int size) throws IOException {
         rightTextures = new Image[frameCount];
         leftTextures = new Image[frameCount];
         String basePath = "/WATVA/Enemy/" + enemyName + "/" + enemyName;
         for (int i = 0; i < frameCount; i++) {
-            rightTextures[i] = loadTexture(basePath + (rightStartIndex + i) + ".png");
-            leftTextures[i] = loadTexture(basePath + (leftStartIndex + i) + ".png");
+            rightTextures[i] = TextureCache.get(basePath + (rightStartIndex + i) + ".png", size, size);
+            leftTextures[i] = TextureCache.get(basePath + (leftStartIndex + i) + ".png", size, size);
         }
     }
 
-    private Image loadTexture(String path) throws IOException {
-        return ImageIO.read(getClass().getResourceAsStream(path));
-    }
-
 
     public void moveTowards(int targetPlayerX, int targetPlayerY, WallManager wallManager) {
-        long currentTime = System.currentTimeMillis();
+        moveTowards(targetPlayerX, targetPlayerY, wallManager, 1, true);
+    }
+
+    /**
+     * Chases the target with full pathfinding, covering the distance of several ticks
+     * in one call. Used for enemies that are only updated every few ticks.
+     * Only this enemy's own fields are written, so different enemies may move on
+     * different threads; shots and path requests are recorded and take effect in
+     * {@link #commitMovement()}.
+     *
+     * @param steps Number of ticks this call stands in for
+     * @param animate False to leave the walk animation untouched
+     */
+    public void moveTowards(int targetPlayerX, int targetPlayerY, WallManager wallManager, int steps, boolean animate) {
+        long currentTime = GameClock.now();
         if (currentTime - lastUnstuckCheck >= UNSTUCK_CHECK_INTERVAL) {
             checkAndUnstuck(wallManager);
             lastUnstuckCheck = currentTime;
@@ -137,7 +167,9 @@ public class Enemy {
                 movingRight = targetPlayerX > x;
 
                 if (currentTime - lastShootTime >= SHOOT_INTERVAL_MS) {
-                    shootAtPlayer(targetPlayerX, targetPlayerY);
+                    shotPending = true;
+                    shotTargetX = targetPlayerX;
+                    shotTargetY = targetPlayerY;
                     lastShootTime = currentTime;
                 }
                 return;
@@ -152,14 +184,16 @@ public class Enemy {
             moveTargetX = targetPlayerX;
             moveTargetY = targetPlayerY;
         } else {
-            if (currentTime - lastPathCalcTime > PATH_RECALC_INTERVAL || nextPathStep == null) {
-                nextPathStep = PathFinding.findNextStep(centerX, centerY, targetCenterX, targetCenterY, wallManager);
-                lastPathCalcTime = currentTime;
+            Point step;
+            if (flowField != null && flowField.getNextStep(centerX, centerY, flowStep)) {
+                step = flowStep;
+            } else {
+                step = updatePathStep(centerX, centerY, targetCenterX, targetCenterY, wallManager, currentTime);
             }
 
-            if (nextPathStep != null) {
-                moveTargetX = nextPathStep.x + (x % 20 - 10);
-                moveTargetY = nextPathStep.y + (y % 20 - 10);
+            if (step != null) {
+                moveTargetX = step.x + (x % 20 - 10);
+                moveTargetY = step.y + (y % 20 - 10);
             } else {
                 moveTargetX = targetPlayerX;
                 moveTargetY = targetPlayerY;
@@ -176,8 +210,8 @@ public class Enemy {
             double normalizedX = deltaX / distance;
             double normalizedY = deltaY / distance;
 
-            int nextX = x + (int)(normalizedX * currentSpeed);
-            int nextY = y + (int)(normalizedY * currentSpeed);
+            int nextX = x + (int)(normalizedX * currentSpeed * steps);
+            int nextY = y + (int)(normalizedY * currentSpeed * steps);
 
             if (!checkWallCollision(nextX, nextY, wallManager)) {
                 x = nextX;
@@ -188,11 +222,132 @@ public class Enemy {
                 y = nextY;
             }
 
-            updateAnimation();
+            if (animate) {
+                updateAnimation();
+            }
+        }
+    }
+
+    /**
+     * Cheap movement for enemies far off screen: follows the shared flow field, or heads
+     * straight for the target outside it, with the same wall test as full movement but
+     * no line-of-sight checks, A* searches or animation.
+     *
+     * @param steps Number of ticks this call stands in for
+     */
+    public void moveCoarse(int targetPlayerX, int targetPlayerY, WallManager wallManager, int steps) {
+        int centerX = x + getWidth() / 2;
+        int centerY = y + getHeight() / 2;
+
+        int moveTargetX = targetPlayerX;
+        int moveTargetY = targetPlayerY;
+        if (flowField != null && flowField.getNextStep(centerX, centerY, flowStep)) {
+            moveTargetX = flowStep.x - getWidth() / 2;
+            moveTargetY = flowStep.y - getHeight() / 2;
+        }
+
+        double deltaX = moveTargetX - x;
+        double deltaY = moveTargetY - y;
+        double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        if (distance <= 1) return;
+
+        movingRight = deltaX > 0;
+        double travel = Math.min(distance, currentSpeed * steps);
+        int nextX = x + (int)(deltaX / distance * travel);
+        int nextY = y + (int)(deltaY / distance * travel);
+
+        if (!checkWallCollision(nextX, nextY, wallManager)) {
+            x = nextX;
+            y = nextY;
+        } else if (!checkWallCollision(nextX, y, wallManager)) {
+            x = nextX;
+        } else if (!checkWallCollision(x, nextY, wallManager)) {
+            y = nextY;
+        }
+    }
+
+    /**
+     * Returns the step to follow when the flow field does not cover this enemy.
+     * With a request queue installed the search is deferred and the previous step is
+     * kept until the answer arrives; null means no answer has arrived yet.
+     */
+    private Point updatePathStep(int centerX, int centerY, int targetCenterX, int targetCenterY,
+                                 WallManager wallManager, long currentTime) {
+        PathRequestQueue queue = pathRequestQueue;
+        if (queue == null) {
+            if (currentTime - lastPathCalcTime > PATH_RECALC_INTERVAL || nextPathStep == null) {
+                if (nextPathStep == null) nextPathStep = new Point();
+                PathFinding.findNextStep(centerX, centerY, targetCenterX, targetCenterY, wallManager, nextPathStep);
+                lastPathCalcTime = currentTime;
+                pathTargetX = targetCenterX;
+                pathTargetY = targetCenterY;
+            }
+            return nextPathStep;
+        }
+
+        if (pathRequest == null) pathRequest = new PathRequestQueue.Request(this);
+        if (nextPathStep == null) {
+            Point answer = new Point();
+            if (pathRequest.takeResult(answer)) nextPathStep = answer;
+        } else {
+            pathRequest.takeResult(nextPathStep);
+        }
+
+        if (currentTime - lastPathCalcTime > PATH_RECALC_INTERVAL || (nextPathStep == null && !pathRequest.isPending())) {
+            pathSubmitPending = true;
+            submitStartX = centerX;
+            submitStartY = centerY;
+            submitGoalX = targetCenterX;
+            submitGoalY = targetCenterY;
+            lastPathCalcTime = currentTime;
+            pathTargetX = targetCenterX;
+            pathTargetY = targetCenterY;
+        }
+        return nextPathStep;
+    }
+
+    /**
+     * Applies the effects of the last movement step that touch shared state: fires the
+     * shot it decided on and submits its path request. Must be called on the simulation
+     * thread after every enemy has moved.
+     */
+    public void commitMovement() {
+        if (shotPending) {
+            shotPending = false;
+            shootAtPlayer(shotTargetX, shotTargetY);
+        }
+        if (pathSubmitPending) {
+            pathSubmitPending = false;
+            PathRequestQueue queue = pathRequestQueue;
+            if (queue != null) {
+                queue.submit(pathRequest, submitStartX, submitStartY, submitGoalX, submitGoalY);
+            }
+        }
+    }
+
+    /**
+     * Makes the path due for recalculation if the walls changed between this enemy and
+     * the target its current step was planned towards. Paths elsewhere are left alone.
+     */
+    public void onWallsChanged(WallChange change) {
+        if (nextPathStep == null) return;
+
+        int tileX = WallManager.toTile(x + getWidth() / 2);
+        int tileY = WallManager.toTile(y + getHeight() / 2);
+        int targetTileX = WallManager.toTile(pathTargetX);
+        int targetTileY = WallManager.toTile(pathTargetY);
+        if (change.intersects(Math.min(tileX, targetTileX), Math.min(tileY, targetTileY),
+                Math.max(tileX, targetTileX), Math.max(tileY, targetTileY), PATH_CHANGE_MARGIN)) {
+            lastPathCalcTime = 0;
         }
     }
 
-    private boolean checkWallCollision(int nextX, int nextY, WallManager wallManager) {
+    /**
+     * Tests the corners, inset by two pixels, and the centre of the enemy's box at a position.
+     *
+     * @return True if any of them is inside a wall
+     */
+    public boolean checkWallCollision(int nextX, int nextY, WallManager wallManager) {
         int w = getWidth();
         int h = getHeight();
 
@@ -239,6 +394,22 @@ public class Enemy {
         globalProjectiles.add(new EnemyProjectile(centerX, centerY, playerX + 25, playerY + 25));
     }
 
+    /**
+     * Sets the shared flow field that chasing enemies follow when the player is out of sight.
+     * Enemies outside the field fall back to their own A* search.
+     */
+    public static void setFlowField(FlowField field) {
+        flowField = field;
+    }
+
+    /**
+     * Sets the queue that path searches are deferred to. Without one, enemies search
+     * inline whenever their path is due for recalculation.
+     */
+    public static void setPathRequestQueue(PathRequestQueue queue) {
+        pathRequestQueue = queue;
+    }
+
     public static void updateAllProjectiles() {
         globalProjectiles.removeIf(projectile -> {
             projectile.move();
@@ -261,7 +432,7 @@ public class Enemy {
     }
 
     private void updateAnimation() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - lastFrameChangeTime >= FRAME_DURATION_MS) {
             currentFrame = (currentFrame + 1) % getFrameCount();
             lastFrameChangeTime = currentTime;
@@ -273,7 +444,7 @@ public class Enemy {
     }
 
     public boolean canAttack() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - lastAttackTime >= ATTACK_COOLDOWN_MS) {
             lastAttackTime = currentTime;
             return true;
@@ -281,21 +452,9 @@ public class Enemy {
         return false;
     }
 
-    public void moveAwayFrom(int otherX, int otherY) {
-        int dx = this.x - otherX;
-        int dy = this.y - otherY;
-        if (dx == 0 && dy == 0) dx = 1;
-
-        double dist = Math.sqrt(dx*dx + dy*dy);
-        if (dist > 0) {
-            this.x += (int)(dx/dist * 2);
-            this.y += (int)(dy/dist * 2);
-        }
-    }
-
     public void update(DamageNumberManager damageManager) {
         updateStatusEffects();
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (isOnFire && currentTime % 1000 < 20) {
             hit(fireDamage, damageManager);
         }
@@ -303,7 +462,7 @@ public class Enemy {
 
     public void setFire(int damage, int durationMs, DamageNumberManager damageManager) {
         isOnFire = true;
-        fireEndTime = System.currentTimeMillis() + durationMs;
+        fireEndTime = GameClock.now() + durationMs;
         fireDamage = damage;
         hit(damage * 2, damageManager);
     }
@@ -313,11 +472,11 @@ public class Enemy {
             currentSpeed = baseSpeed * 0.5;
         }
         isSlowed = true;
-        slowEndTime = System.currentTimeMillis() + durationMs;
+        slowEndTime = GameClock.now() + durationMs;
     }
 
     private void updateStatusEffects() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (isSlowed && currentTime >= slowEndTime) {
             isSlowed = false;
             currentSpeed = baseSpeed;
@@ -367,7 +526,18 @@ public class Enemy {
     }
 
     public Rectangle getCollider() {
-        return new Rectangle(x, y, getWidth(), getHeight());
+        return getCollider(new Rectangle());
+    }
+
+    /**
+     * Writes the collision bounds into the supplied rectangle instead of allocating one.
+     *
+     * @param out Rectangle to fill
+     * @return The same rectangle, for chaining
+     */
+    public Rectangle getCollider(Rectangle out) {
+        out.setBounds(x, y, getWidth(), getHeight());
+        return out;
     }
 
     public void hit(int damage, DamageNumberManager damageManager) {
@@ -407,6 +577,12 @@ public class Enemy {
     public void setX(int x) { this.x = x; }
     public void setY(int y) { this.y = y; }
 
+    /**
+     * Handle assigned by the {@link Logic.EnemyStore} holding this enemy, or -1.
+     */
+    public int getStoreHandle() { return storeHandle; }
+    public void setStoreHandle(int handle) { this.storeHandle = handle; }
+
     @Deprecated
     public List<EnemyProjectile> getProjectiles() { return getAllProjectiles(); }
     @Deprecated
@@ -1,7 +1,8 @@
 package Enemies;
 
 import Core.Game;
-import javax.imageio.ImageIO;
+import Logic.GameClock;
+import Logic.TextureCache;
 import java.awt.*;
 import java.io.IOException;
 
@@ -42,11 +43,11 @@ public class Slime extends Enemy {
 
         try {
             for (int i = 0; i < 6; i++) {
-                slimeTexturesRight[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Enemy/Slime/Slime" + (i + 1) + ".png"));
+                slimeTexturesRight[i] = TextureCache.get("/WATVA/Enemy/Slime/Slime" + (i + 1) + ".png", SLIME_SIZE, SLIME_SIZE);
             }
             slimeTexturesLeft[0] = slimeTexturesRight[0];
             for (int i = 1; i < 6; i++) {
-                slimeTexturesLeft[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Enemy/Slime/Slime" + (i + 6) + ".png"));
+                slimeTexturesLeft[i] = TextureCache.get("/WATVA/Enemy/Slime/Slime" + (i + 6) + ".png", SLIME_SIZE, SLIME_SIZE);
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -64,7 +65,7 @@ public class Slime extends Enemy {
      */
     @Override
     public void moveTowards(int targetPlayerX, int targetPlayerY) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (currentTime - lastJumpTime >= JUMP_INTERVAL && !isJumping && !preJump) {
             lastJumpTime = currentTime;
@@ -143,13 +144,15 @@ public class Slime extends Enemy {
     }
 
     /**
-     * Gets the collision bounds of the slime.
+     * Writes the collision bounds of the slime into the supplied rectangle.
      *
+     * @param out Rectangle to fill
      * @return Rectangle representing the collision area
      */
     @Override
-    public Rectangle getCollider() {
-        return new Rectangle(x + Game.scale(30), y + Game.scale(24),
+    public Rectangle getCollider(Rectangle out) {
+        out.setBounds(x + Game.scale(30), y + Game.scale(24),
                 SLIME_SIZE - Game.scale(48), SLIME_SIZE - Game.scale(48));
+        return out;
     }
 }
\ No newline at end of file
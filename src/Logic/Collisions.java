@@ -12,22 +12,40 @@ import UI.GamePanel;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Collisions {
     private Player player;
-    private CopyOnWriteArrayList<Enemy> enemies;
+    private EnemyStore enemies;
     private CopyOnWriteArrayList<PlayerProjectile> playerProjectiles;
     private boolean gameOver;
     private DamageNumberManager damageManager;
     private WallManager wallManager;
     private GamePanel gamePanel;
     private long lastPlayerUnstuckCheck = 0;
+    private long tickCount = 0;
     private static final long UNSTUCK_CHECK_INTERVAL = 500;
 
-    public Collisions(Player player, CopyOnWriteArrayList<Enemy> enemies,
+    private final EnemyMovement movement = new EnemyMovement();
+    private final SpatialHash enemyGrid = new SpatialHash(GamePanel.BLOCK_SIZE);
+    private Enemy[] gridEnemies = new Enemy[64];
+    private int gridEnemyCount;
+    private final Rectangle bounds = new Rectangle();
+    private final Rectangle otherBounds = new Rectangle();
+
+    /** Push, in pixels, shared by two equally heavy enemies that fully overlap. */
+    private static final double SEPARATION_STRENGTH = 8.0;
+    /** Largest distance an enemy is pushed apart from its neighbours per pass. */
+    private static final double MAX_SEPARATION_STEP = 8.0;
+    /** Separation passes per tick; a pass only runs if the previous one moved an enemy. */
+    private static final int SEPARATION_PASSES = 2;
+    private double[] separationX = new double[64];
+    private double[] separationY = new double[64];
+
+    public Collisions(Player player, EnemyStore enemies,
                       CopyOnWriteArrayList<PlayerProjectile> playerProjectiles,
                       DamageNumberManager damageManager, WallManager wallManager, GamePanel gamePanel) {
         this.player = player;
@@ -51,7 +69,7 @@ public class Collisions {
     }
 
     private void checkPlayerUnstuck() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - lastPlayerUnstuckCheck >= UNSTUCK_CHECK_INTERVAL) {
             int centerX = player.getX() + Player.WIDTH / 2;
             int centerY = player.getY() + Player.HEIGHT / 2;
@@ -117,14 +135,21 @@ public class Collisions {
     }
 
     private void checkPlayerEnemyCollisions() {
+        long movementStart = FrameProfiler.start();
+        tickCount++;
+        movement.move(enemies, player, wallManager, tickCount);
+        FrameProfiler.stop(FrameProfiler.Phase.ENEMY_MOVEMENT, movementStart);
+
+        rebuildEnemyGrid();
+
         Rectangle playerCollider = player.getCollider();
+        int candidates = enemyGrid.query(playerCollider.x, playerCollider.y,
+                playerCollider.x + playerCollider.width, playerCollider.y + playerCollider.height);
 
-        for (Enemy enemy : enemies) {
-            if (!(enemy instanceof DarkMageBoss darkMageBoss) || !darkMageBoss.isDying) {
-                enemy.moveTowards(player.getX(), player.getY(), wallManager);
-            }
+        for (int i = 0; i < candidates; i++) {
+            Enemy enemy = gridEnemies[enemyGrid.resultAt(i)];
 
-            Rectangle enemyCollider = enemy.getCollider();
+            Rectangle enemyCollider = enemy.getCollider(bounds);
             if (playerCollider.intersects(enemyCollider)) {
                 int pushX = 0;
                 int pushY = 0;
@@ -164,10 +189,11 @@ public class Collisions {
                         enemy.getType() != Enemy.Type.DARK_MAGE_BOSS) {
                     enemy.setX(enemy.getX() - pushX);
                     enemy.setY(enemy.getY() - pushY);
+                    refreshGridEntry(enemyGrid.resultAt(i));
                 }
 
                 if (enemy.canAttack()) {
-                    if (!gamePanel.isTutorialMode()) {
+                    if (!isTutorialMode()) {
                         player.hit(enemy.getDamage());
                         if (player.getHp() <= 0) {
                             gameOver = true;
@@ -185,7 +211,15 @@ public class Collisions {
         for (Explosion explosion : player.getExplosions()) {
             boolean explosionDamaged = false;
 
-            for (Enemy enemy : enemies) {
+            int radius = explosion.getCurrentRadius();
+            int candidates = enemyGrid.query(explosion.getX() - radius, explosion.getY() - radius,
+                    explosion.getX() + radius, explosion.getY() + radius);
+
+            for (int i = 0; i < candidates; i++) {
+                Enemy enemy = gridEnemies[enemyGrid.resultAt(i)];
+                if (enemy.getStoreHandle() < 0) {
+                    continue;
+                }
                 if (explosion.isInRange(enemy.getX(), enemy.getY())) {
                     if (!explosion.hasDamaged()) {
                         enemy.hit(100, damageManager);
@@ -197,7 +231,7 @@ public class Collisions {
                         GameLogic.killCountPlus();
                         player.earnCoins(10);
 
-                        if (gamePanel.isTutorialMode()) {
+                        if (isTutorialMode()) {
                             gamePanel.onTutorialEnemyKilled();
                         }
                     }
@@ -230,15 +264,23 @@ public class Collisions {
                 continue;
             }
 
-            Rectangle arrowCollider = new Rectangle(
+            Rectangle arrowCollider = otherBounds;
+            arrowCollider.setBounds(
                     playerProjectile.getX(),
                     playerProjectile.getY(),
                     PlayerProjectile.SIZE,
                     PlayerProjectile.SIZE
             );
 
-            for (Enemy enemy : enemies) {
-                Rectangle enemyCollider = enemy.getCollider();
+            int candidates = enemyGrid.query(arrowCollider.x, arrowCollider.y,
+                    arrowCollider.x + arrowCollider.width, arrowCollider.y + arrowCollider.height);
+
+            for (int i = 0; i < candidates; i++) {
+                Enemy enemy = gridEnemies[enemyGrid.resultAt(i)];
+                if (enemy.getStoreHandle() < 0) {
+                    continue;
+                }
+                Rectangle enemyCollider = enemy.getCollider(bounds);
 
                 if (arrowCollider.intersects(enemyCollider)) {
                     enemy.hit(player.getDamage(), damageManager);
@@ -263,7 +305,7 @@ public class Collisions {
                             GameLogic.killCountPlus();
                             player.earnCoins(10);
 
-                            if (gamePanel.isTutorialMode()) {
+                            if (isTutorialMode()) {
                                 gamePanel.onTutorialEnemyKilled();
                             }
                         }
@@ -287,27 +329,182 @@ public class Collisions {
         enemies.removeAll(enemiesToRemove);
     }
 
+    /**
+     * Spreads overlapping enemies apart, boids-style. Every enemy sums a repulsion from
+     * the neighbours whose colliders it overlaps, found through the broad-phase grid,
+     * pointing away from each neighbour's centre, growing with the depth of the overlap
+     * and shared out by weight so small enemies give way to large ones. All
+     * pushes are computed from the positions at the start of the pass and applied
+     * together afterwards, so the result does not depend on enemy order. Crowds get
+     * more than one pass per tick, each starting from where the previous one left off.
+     */
     private void resolveEnemyCollisions() {
-        for (int i = 0; i < enemies.size(); i++) {
-            for (int j = i + 1; j < enemies.size(); j++) {
-                Enemy e1 = enemies.get(i);
-                Enemy e2 = enemies.get(j);
+        for (int pass = 0; pass < SEPARATION_PASSES; pass++) {
+            if (!separateEnemies()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Runs one separation pass.
+     *
+     * @return True if any enemy was moved
+     */
+    private boolean separateEnemies() {
+        if (separationX.length < gridEnemyCount) {
+            separationX = new double[gridEnemies.length];
+            separationY = new double[gridEnemies.length];
+        }
+
+        for (int i = 0; i < gridEnemyCount; i++) {
+            separationX[i] = 0;
+            separationY[i] = 0;
+
+            Enemy e1 = gridEnemies[i];
+            if (e1.getStoreHandle() < 0 || e1.getType() == Enemy.Type.SHOOTING) {
+                continue;
+            }
 
-                if (e1.getType() == Enemy.Type.SHOOTING || e2.getType() == Enemy.Type.SHOOTING) {
+            double radius1 = e1.getWidth() / 2.0;
+            double centerX1 = e1.getX() + radius1;
+            double centerY1 = e1.getY() + e1.getHeight() / 2.0;
+            double weight1 = separationWeight(e1);
+
+            Rectangle r1 = e1.getCollider(bounds);
+            int candidates = enemyGrid.query(r1.x, r1.y, r1.x + r1.width, r1.y + r1.height);
+
+            for (int c = 0; c < candidates; c++) {
+                int j = enemyGrid.resultAt(c);
+                if (j == i) {
+                    continue;
+                }
+
+                Enemy e2 = gridEnemies[j];
+                if (e2.getStoreHandle() < 0 || e2.getType() == Enemy.Type.SHOOTING) {
                     continue;
                 }
 
-                Rectangle r1 = e1.getCollider();
-                Rectangle r2 = e2.getCollider();
+                double radius2 = e2.getWidth() / 2.0;
+                double dx = centerX1 - (e2.getX() + radius2);
+                double dy = centerY1 - (e2.getY() + e2.getHeight() / 2.0);
+                double spacing = radius1 + radius2;
+                double overlap = Math.min(spacing - Math.abs(dx), spacing - Math.abs(dy));
+                if (overlap <= 0) {
+                    continue;
+                }
 
-                if (r1.intersects(r2)) {
-                    e1.moveAwayFrom(e2.getX(), e2.getY());
-                    e2.moveAwayFrom(e1.getX(), e1.getY());
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                if (distance == 0) {
+                    // Stacked exactly: split along x, lower index to the left.
+                    dx = i < j ? -1 : 1;
+                    dy = 0;
+                    distance = 1;
                 }
+
+                double weight2 = separationWeight(e2);
+                double strength = (0.5 + 0.5 * overlap / spacing) * weight2 / (weight1 + weight2);
+                separationX[i] += dx / distance * strength;
+                separationY[i] += dy / distance * strength;
+            }
+        }
+
+        boolean moved = false;
+        for (int i = 0; i < gridEnemyCount; i++) {
+            double pushX = separationX[i] * SEPARATION_STRENGTH;
+            double pushY = separationY[i] * SEPARATION_STRENGTH;
+            double length = Math.sqrt(pushX * pushX + pushY * pushY);
+            if (length < 0.5) {
+                continue;
+            }
+            if (length > MAX_SEPARATION_STEP) {
+                pushX *= MAX_SEPARATION_STEP / length;
+                pushY *= MAX_SEPARATION_STEP / length;
+            }
+
+            Enemy enemy = gridEnemies[i];
+            int newX = enemy.getX() + (int) Math.round(pushX);
+            int newY = enemy.getY() + (int) Math.round(pushY);
+            if (!enemy.checkWallCollision(newX, newY, wallManager)) {
+                enemy.setX(newX);
+                enemy.setY(newY);
+            } else if (!enemy.checkWallCollision(newX, enemy.getY(), wallManager)) {
+                enemy.setX(newX);
+            } else if (!enemy.checkWallCollision(enemy.getX(), newY, wallManager)) {
+                enemy.setY(newY);
+            } else {
+                continue;
+            }
+            refreshGridEntry(i);
+            moved = true;
+        }
+        return moved;
+    }
+
+    /**
+     * @return How hard an enemy is to push, proportional to its footprint; bosses barely move
+     */
+    private static double separationWeight(Enemy enemy) {
+        return switch (enemy.getType()) {
+            case DARK_MAGE_BOSS, BUNNY_BOSS -> 1000.0;
+            default -> (double) enemy.getWidth() * enemy.getHeight() / (Enemy.NORMAL_SIZE * Enemy.NORMAL_SIZE);
+        };
+    }
+
+    /**
+     * Re-indexes the current enemies in the broad-phase grid. Runs once per tick, right
+     * after movement; the later passes keep the grid current through {@link #refreshGridEntry}
+     * for every enemy they push. Enemies removed during the tick stay in the grid with a
+     * negative store handle and are skipped, and enemies added during the tick are picked up
+     * by the next rebuild.
+     */
+    private void rebuildEnemyGrid() {
+        enemyGrid.clear();
+        gridEnemyCount = 0;
+
+        for (Enemy enemy : enemies) {
+            if (gridEnemyCount == gridEnemies.length) {
+                gridEnemies = Arrays.copyOf(gridEnemies, gridEnemyCount * 2);
             }
+
+            gridEnemies[gridEnemyCount] = enemy;
+            indexGridEntry(gridEnemyCount, false);
+            gridEnemyCount++;
         }
     }
 
+    /**
+     * Moves one enemy's grid entry to its current position.
+     *
+     * @param id Grid id of the enemy, i.e. its index in gridEnemies
+     */
+    private void refreshGridEntry(int id) {
+        indexGridEntry(id, true);
+    }
+
+    /**
+     * Stores an enemy under the union of its collider and its origin, since
+     * explosions test the origin while every other pass tests the collider.
+     */
+    private void indexGridEntry(int id, boolean existing) {
+        Enemy enemy = gridEnemies[id];
+        Rectangle collider = enemy.getCollider(bounds);
+        int minX = Math.min(collider.x, enemy.getX());
+        int minY = Math.min(collider.y, enemy.getY());
+        int maxX = Math.max(collider.x + collider.width, enemy.getX());
+        int maxY = Math.max(collider.y + collider.height, enemy.getY());
+
+        if (existing) {
+            enemyGrid.update(id, minX, minY, maxX - minX, maxY - minY);
+        } else {
+            enemyGrid.insert(id, minX, minY, maxX - minX, maxY - minY);
+        }
+    }
+
+    private boolean isTutorialMode() {
+        return gamePanel != null && gamePanel.isTutorialMode();
+    }
+
     public boolean isGameOver() {
         return gameOver;
     }
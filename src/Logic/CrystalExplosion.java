@@ -3,7 +3,6 @@ package Logic;
 import Core.Game;
 import Player.Player;
 import UI.GamePanel;
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 
@@ -25,18 +24,18 @@ public class CrystalExplosion {
     private long explosionStartTime = 0;
 
     public CrystalExplosion() {
-        this.startTime = System.currentTimeMillis();
+        this.startTime = GameClock.now();
         loadImages();
     }
 
     private void loadImages() {
         try {
-            outerGlowImg = ImageIO.read(getClass().getResourceAsStream("/WATVA/Crystal/OuterGlow.png"));
-            innerGlowImg = ImageIO.read(getClass().getResourceAsStream("/WATVA/Crystal/InnerGlow.png"));
-            crystalParticleImg = ImageIO.read(getClass().getResourceAsStream("/WATVA/Crystal/Crystal1.png"));
+            outerGlowImg = TextureCache.get("/WATVA/Crystal/OuterGlow.png");
+            innerGlowImg = TextureCache.get("/WATVA/Crystal/InnerGlow.png");
+            crystalParticleImg = TextureCache.get("/WATVA/Crystal/Crystal1.png");
 
             for (int i = 0; i < 6; i++) {
-                explosionFrames[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Crystal/Crys_ex" + (i + 1) + ".png"));
+                explosionFrames[i] = TextureCache.get("/WATVA/Crystal/Crys_ex" + (i + 1) + ".png");
             }
         } catch (IOException | NullPointerException e) {
         }
@@ -47,15 +46,15 @@ public class CrystalExplosion {
 
     public void update() {
         if (complete) return;
-        long elapsed = System.currentTimeMillis() - startTime;
+        long elapsed = GameClock.now() - startTime;
 
         if (!castingComplete) {
             if (elapsed >= CASTING_DURATION) {
                 castingComplete = true;
-                explosionStartTime = System.currentTimeMillis();
+                explosionStartTime = GameClock.now();
             }
         } else {
-            long explosionElapsed = System.currentTimeMillis() - explosionStartTime;
+            long explosionElapsed = GameClock.now() - explosionStartTime;
             if (explosionElapsed >= ANIMATION_FRAME_TIME * explosionFrames.length) {
                 complete = true;
             }
@@ -79,7 +78,7 @@ public class CrystalExplosion {
         int pCenterY = player.getY() + Player.HEIGHT / 2;
 
         if (!castingComplete) {
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.now() - startTime;
             float phase = (elapsed % 500) / 500f;
             float alphaVal = (150 + (float)(Math.sin(phase * Math.PI * 2) * 50)) / 255f;
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.max(0.1f, alphaVal)));
@@ -99,7 +98,7 @@ public class CrystalExplosion {
                 }
             }
         } else {
-            long explosionElapsed = System.currentTimeMillis() - explosionStartTime;
+            long explosionElapsed = GameClock.now() - explosionStartTime;
             int frameIndex = (int)(explosionElapsed / ANIMATION_FRAME_TIME);
 
             if (frameIndex < explosionFrames.length && explosionFrames[frameIndex] != null) {
@@ -1,6 +1,7 @@
 package Logic.DamageNumber;
 
 import Core.Game;
+import Logic.GameClock;
 import java.awt.*;
 import java.util.Random;
 
@@ -38,7 +39,7 @@ public class DamageNumber {
         this.x = centerX + offsetX;
         this.y = centerY + offsetY;
         this.damage = damage;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = GameClock.now();
 
         double angle = (random.nextDouble() - 0.5) * 2 * MAX_ANGLE_RADIANS;
         this.velocityX = Math.sin(angle) * FLOAT_SPEED;
@@ -52,7 +53,7 @@ public class DamageNumber {
         x += velocityX;
         y += velocityY;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - creationTime >= DURATION_MS) {
             isActive = false;
         }
@@ -67,7 +68,7 @@ public class DamageNumber {
         if (!isActive) return;
 
         Graphics2D g2d = (Graphics2D) g;
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         long elapsed = currentTime - creationTime;
         float alpha = 1.0f - (float) elapsed / DURATION_MS;
         alpha = Math.max(0, Math.min(1, alpha));
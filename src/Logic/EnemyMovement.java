@@ -0,0 +1,174 @@
+package Logic;
+
+import Bosses.DarkMageBoss;
+import Enemies.Enemy;
+import Player.Player;
+import UI.GamePanel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs one tick of enemy movement, spread over a fork-join pool for large waves.
+ * An enemy's movement reads the walls, the flow field and the player position, which
+ * do not change during the pass, and writes only the enemy's own fields; no enemy looks
+ * at another one. Enemies can therefore move in any order and on any thread with the
+ * same result. Movers are sorted by spatial cell so each task works on neighbouring
+ * enemies that share wall tiles and cached rays.
+ *
+ * <p>Effects on shared state, such as firing a projectile or submitting a path request,
+ * are recorded during movement and committed afterwards on the calling thread in store
+ * order, so the outcome does not depend on how the work was split. Bosses and slimes
+ * have scripted movement that may touch shared state; they move and commit inline on
+ * the calling thread while the movers are collected, before the batch of ordinary
+ * movers runs.</p>
+ *
+ * <p>A pool with a parallelism of one moves everything on the calling thread.</p>
+ */
+public class EnemyMovement {
+    /** Movers below which the pass stays on the calling thread. */
+    private static final int PARALLEL_THRESHOLD = 128;
+    /** Largest number of movers handled by one task. */
+    private static final int BATCH_SIZE = 48;
+    /** Edge of the spatial cells movers are grouped by, in tiles. */
+    private static final int CELL_TILES = 8;
+
+    private final ForkJoinPool pool;
+    private Enemy[] movers = new Enemy[64];
+    private SimulationLod.Tier[] tiers = new SimulationLod.Tier[64];
+    private long[] order = new long[64];
+    private int count;
+
+    private int targetX;
+    private int targetY;
+    private WallManager wallManager;
+
+    public EnemyMovement() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public EnemyMovement(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Moves every enemy that is due on this tick towards the player.
+     */
+    public void move(EnemyStore enemies, Player player, WallManager wallManager, long tick) {
+        this.targetX = player.getX();
+        this.targetY = player.getY();
+        this.wallManager = wallManager;
+        count = 0;
+
+        for (Enemy enemy : enemies) {
+            if (enemy instanceof DarkMageBoss darkMageBoss && darkMageBoss.isDying) {
+                continue;
+            }
+
+            SimulationLod.Tier tier = SimulationLod.classify(enemy);
+            if (!SimulationLod.isDue(tier, enemy, tick)) {
+                continue;
+            }
+
+            if (hasScriptedMovement(enemy)) {
+                moveOne(enemy, tier);
+                enemy.commitMovement();
+                continue;
+            }
+            add(enemy, tier);
+        }
+
+        if (count >= PARALLEL_THRESHOLD && pool.getParallelism() > 1) {
+            sortBySpatialCell();
+            pool.invoke(new MoveTask(0, count));
+        } else {
+            for (int i = 0; i < count; i++) {
+                moveOne(movers[i], tiers[i]);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            movers[i].commitMovement();
+            movers[i] = null;
+        }
+        this.wallManager = null;
+    }
+
+    private void moveOne(Enemy enemy, SimulationLod.Tier tier) {
+        switch (tier) {
+            case FULL -> enemy.moveTowards(targetX, targetY, wallManager);
+            case REDUCED -> enemy.moveTowards(targetX, targetY, wallManager, tier.getInterval(), false);
+            case COARSE -> enemy.moveCoarse(targetX, targetY, wallManager, tier.getInterval());
+        }
+    }
+
+    private void add(Enemy enemy, SimulationLod.Tier tier) {
+        if (count == movers.length) {
+            int capacity = count * 2;
+            movers = Arrays.copyOf(movers, capacity);
+            tiers = Arrays.copyOf(tiers, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+        movers[count] = enemy;
+        tiers[count] = tier;
+        count++;
+    }
+
+    /**
+     * Fills {@link #order} with mover indices sorted by spatial cell, then by store order.
+     */
+    private void sortBySpatialCell() {
+        int cellSize = GamePanel.BLOCK_SIZE * CELL_TILES;
+        for (int i = 0; i < count; i++) {
+            long cellX = Math.floorDiv(movers[i].getX(), cellSize) & 0xFFFF;
+            long cellY = Math.floorDiv(movers[i].getY(), cellSize) & 0xFFFF;
+            order[i] = (cellX << 48) | (cellY << 32) | i;
+        }
+        Arrays.sort(order, 0, count);
+    }
+
+    private static boolean hasScriptedMovement(Enemy enemy) {
+        Enemy.Type type = enemy.getType();
+        return type == Enemy.Type.SLIME || type == Enemy.Type.DARK_MAGE_BOSS || type == Enemy.Type.BUNNY_BOSS;
+    }
+
+    /**
+     * Moves the movers in a range of {@link #order}, splitting it at cell boundaries.
+     */
+    private final class MoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        MoveTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    int index = (int) order[i];
+                    moveOne(movers[index], tiers[index]);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            int split = middle;
+            while (split < to && sameCell(order[split - 1], order[split])) {
+                split++;
+            }
+            if (split == to) split = middle;
+
+            invokeAll(new MoveTask(from, split), new MoveTask(split, to));
+        }
+
+        private boolean sameCell(long a, long b) {
+            return (a >>> 32) == (b >>> 32);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package Logic;
+
+import Enemies.Enemy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Dense, array-backed collection of the live enemies.
+ * Enemies are packed into the front of the arrays and removed by moving the last enemy
+ * into the freed slot, so adding and removing are O(1) and never copy the collection.
+ * Whole-wave scans walk the packed array front to back without gaps.
+ *
+ * <p>This is not struct-of-arrays storage: position, hp, speed, status timers and type
+ * stay in the {@link Enemy} objects, which read and write them throughout movement,
+ * attacks and rendering, so every scan still follows one reference per enemy. The
+ * store only removes the copying and the scattered removals of the list it replaced.</p>
+ *
+ * <p>Every added enemy gets a handle that stays valid until that enemy is removed,
+ * even though its index changes as others are removed. A handle of a removed enemy
+ * resolves to null, also after its slot has been reused.</p>
+ *
+ * <p>The store is not thread-safe. It must only be touched by the simulation thread or
+ * while holding the game loop's state lock. New enemies are queued in a {@link SpawnQueue}
+ * and added at the start of a tick.</p>
+ */
+public class EnemyStore implements Iterable<Enemy> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ID_BITS = 20;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - ID_BITS)) - 1;
+
+    private Enemy[] enemies = new Enemy[INITIAL_CAPACITY];
+    private int[] idOfIndex = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] indexOfId = new int[INITIAL_CAPACITY];
+    private int[] generationOfId = new int[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeIdCount;
+    private int nextId;
+
+    private int bossCount;
+
+    /**
+     * Adds an enemy to the end of the store.
+     *
+     * @return Stable handle of the enemy
+     */
+    public int add(Enemy enemy) {
+        int index = size;
+        if (index == enemies.length) {
+            grow(index * 2);
+        }
+
+        int id = allocateId();
+        indexOfId[id] = index;
+        idOfIndex[index] = id;
+        enemies[index] = enemy;
+
+        int handle = (generationOfId[id] << ID_BITS) | id;
+        enemy.setStoreHandle(handle);
+        if (isBoss(enemy)) bossCount++;
+        size = index + 1;
+        return handle;
+    }
+
+    /**
+     * @return Slot id encoded in a handle; unique among live enemies
+     */
+    public static int idOf(int handle) {
+        return handle & ID_MASK;
+    }
+
+    /**
+     * @return The enemy the handle refers to, or null if it has been removed
+     */
+    public Enemy resolve(int handle) {
+        int index = indexOf(handle);
+        return index >= 0 ? enemies[index] : null;
+    }
+
+    /**
+     * Removes the enemy in O(1). Does nothing if it is not in this store.
+     *
+     * @return True if the enemy was removed
+     */
+    public boolean remove(Enemy enemy) {
+        int index = indexOf(enemy.getStoreHandle());
+        if (index < 0 || enemies[index] != enemy) return false;
+        removeAt(index);
+        return true;
+    }
+
+    public void removeAll(Collection<? extends Enemy> toRemove) {
+        for (Enemy enemy : toRemove) {
+            remove(enemy);
+        }
+    }
+
+    /**
+     * Removes every enemy matching the filter. The order of the remaining enemies may change.
+     *
+     * @return Number of enemies removed
+     */
+    public int removeIf(Predicate<? super Enemy> filter) {
+        int removed = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            if (filter.test(enemies[i])) {
+                removeAt(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every non-boss enemy further than the given distance from a point.
+     *
+     * @return Number of enemies removed
+     */
+    public int removeBeyond(int centerX, int centerY, int maxDistance) {
+        long maxDistanceSq = (long) maxDistance * maxDistance;
+
+        int removed = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            Enemy enemy = enemies[i];
+            if (isBoss(enemy)) continue;
+
+            long dx = enemy.getX() - centerX;
+            long dy = enemy.getY() - centerY;
+            if (dx * dx + dy * dy > maxDistanceSq) {
+                removeAt(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int id = idOfIndex[i];
+            enemies[i].setStoreHandle(-1);
+            enemies[i] = null;
+            releaseId(id);
+        }
+        size = 0;
+        bossCount = 0;
+    }
+
+    public Enemy get(int index) {
+        return enemies[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return True if a Dark Mage or Bunny boss is in the store
+     */
+    public boolean hasBoss() {
+        return bossCount > 0;
+    }
+
+    /**
+     * Iterates by index over the live store. Enemies added during iteration are
+     * visited; removing anything other than the current enemy may skip one.
+     */
+    @Override
+    public Iterator<Enemy> iterator() {
+        return new Iterator<Enemy>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Enemy next() {
+                if (next >= size) throw new NoSuchElementException();
+                return enemies[next++];
+            }
+        };
+    }
+
+    private int indexOf(int handle) {
+        if (handle < 0) return -1;
+        int id = handle & ID_MASK;
+        if (id >= nextId || generationOfId[id] != handle >>> ID_BITS) return -1;
+        int index = indexOfId[id];
+        return index < size ? index : -1;
+    }
+
+    private void removeAt(int index) {
+        Enemy removed = enemies[index];
+        int id = idOfIndex[index];
+        int last = size - 1;
+
+        if (index != last) {
+            enemies[index] = enemies[last];
+            idOfIndex[index] = idOfIndex[last];
+            indexOfId[idOfIndex[index]] = index;
+        }
+        enemies[last] = null;
+        size = last;
+
+        removed.setStoreHandle(-1);
+        if (isBoss(removed)) bossCount--;
+        releaseId(id);
+    }
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        if (nextId > ID_MASK) {
+            throw new IllegalStateException("Too many enemies: " + nextId);
+        }
+        if (nextId == indexOfId.length) {
+            int capacity = nextId * 2;
+            indexOfId = Arrays.copyOf(indexOfId, capacity);
+            generationOfId = Arrays.copyOf(generationOfId, capacity);
+            freeIds = Arrays.copyOf(freeIds, capacity);
+        }
+        return nextId++;
+    }
+
+    private void releaseId(int id) {
+        generationOfId[id] = (generationOfId[id] + 1) & GENERATION_MASK;
+        freeIds[freeIdCount++] = id;
+    }
+
+    private void grow(int capacity) {
+        idOfIndex = Arrays.copyOf(idOfIndex, capacity);
+        enemies = Arrays.copyOf(enemies, capacity);
+    }
+
+    private static boolean isBoss(Enemy enemy) {
+        return enemy.getType() == Enemy.Type.DARK_MAGE_BOSS || enemy.getType() == Enemy.Type.BUNNY_BOSS;
+    }
+}
@@ -0,0 +1,358 @@
+package Logic;
+
+import UI.GamePanel;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Distance map towards a single target shared by every chasing enemy.
+ * A Dijkstra sweep over a square window of tiles around the target stores each tile's
+ * travel cost to it; an enemy then steps to whichever neighbouring tile is cheapest,
+ * which is a constant-time lookup. The sweep only reruns when the target moves to a
+ * different tile or the wall layout changes.
+ *
+ * <p>Registered as a {@link WallChangeListener}, the field repairs itself after local wall
+ * changes instead of starting over: tiles whose shortest route ran through a new wall
+ * are reset, and the Dijkstra sweep is resumed from the border of the reset area and
+ * from freed tiles only. A global change, or a change that was not reported, still
+ * triggers a full sweep.</p>
+ */
+public class FlowField implements WallChangeListener {
+    public static final int RADIUS = 32;
+
+    private static final int SIZE = RADIUS * 2 + 1;
+    private static final int CELL_COUNT = SIZE * SIZE;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    private static final int TILE_SIZE = GamePanel.BLOCK_SIZE;
+
+    private static final int[] DIR_X = {0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int[] DIR_Y = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] DIR_COST = {STRAIGHT_COST, STRAIGHT_COST, STRAIGHT_COST, STRAIGHT_COST,
+            DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST};
+
+    private final int[] distance = new int[CELL_COUNT];
+    private final long[] queue = new long[CELL_COUNT * (DIR_X.length + 1) + 1];
+    private int queueSize;
+    private final int[] raised = new int[CELL_COUNT];
+
+    private int[] pendingRegions = new int[16];
+    private int pendingCount;
+    private boolean pendingGlobal;
+    private int pendingVersion;
+    private boolean lastUpdateRepaired;
+
+    private int originX;
+    private int originY;
+    private int targetTileX;
+    private int targetTileY;
+    private int wallVersion;
+    private boolean valid;
+
+    public FlowField() {
+        Arrays.fill(distance, UNREACHED);
+    }
+
+    /**
+     * Rebuilds the field if the target has moved to another tile or the walls have changed.
+     *
+     * @return true if the field was recomputed
+     */
+    public boolean update(int targetX, int targetY, WallManager wallManager) {
+        int tileX = WallManager.toTile(targetX);
+        int tileY = WallManager.toTile(targetY);
+        int version = wallManager.getWallVersion();
+        lastUpdateRepaired = false;
+
+        if (valid && tileX == targetTileX && tileY == targetTileY) {
+            if (wallVersion == version) {
+                return false;
+            }
+            if (!pendingGlobal && pendingCount > 0 && pendingVersion == version) {
+                repair(wallManager);
+                wallVersion = version;
+                clearPending();
+                lastUpdateRepaired = true;
+                return true;
+            }
+        }
+
+        targetTileX = tileX;
+        targetTileY = tileY;
+        wallVersion = version;
+        originX = tileX - RADIUS;
+        originY = tileY - RADIUS;
+        compute(wallManager);
+        clearPending();
+        valid = true;
+        return true;
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Records a wall change to be repaired on the next {@link #update}.
+     */
+    @Override
+    public void onWallsChanged(WallChange change) {
+        pendingVersion = change.getWallVersion();
+        if (change.isGlobal()) {
+            pendingGlobal = true;
+            return;
+        }
+        if (pendingCount * 4 == pendingRegions.length) {
+            pendingRegions = Arrays.copyOf(pendingRegions, pendingRegions.length * 2);
+        }
+        int base = pendingCount * 4;
+        pendingRegions[base] = change.getMinTileX();
+        pendingRegions[base + 1] = change.getMinTileY();
+        pendingRegions[base + 2] = change.getMaxTileX();
+        pendingRegions[base + 3] = change.getMaxTileY();
+        pendingCount++;
+    }
+
+    /**
+     * @return True if the last {@link #update} repaired the field instead of recomputing it
+     */
+    public boolean wasLastUpdateRepair() {
+        return lastUpdateRepaired;
+    }
+
+    /**
+     * Looks up where an enemy standing at the given point should head next.
+     * Writes the centre of the cheapest neighbouring tile into {@code out}.
+     *
+     * @return false if the point is outside the field, cannot reach the target,
+     *         or is already on the target tile
+     */
+    public boolean getNextStep(int worldX, int worldY, Point out) {
+        if (!valid) return false;
+
+        int localX = WallManager.toTile(worldX) - originX;
+        int localY = WallManager.toTile(worldY) - originY;
+        if (!inWindow(localX, localY)) return false;
+
+        int best = distance[localY * SIZE + localX];
+        if (best == UNREACHED || best == 0) return false;
+
+        int bestX = -1;
+        int bestY = -1;
+        for (int d = 0; d < DIR_X.length; d++) {
+            int nx = localX + DIR_X[d];
+            int ny = localY + DIR_Y[d];
+            if (!inWindow(nx, ny)) continue;
+
+            int cost = distance[ny * SIZE + nx];
+            if (cost < best) {
+                best = cost;
+                bestX = nx;
+                bestY = ny;
+            }
+        }
+        if (bestX < 0) return false;
+
+        out.x = (bestX + originX) * TILE_SIZE + TILE_SIZE / 2;
+        out.y = (bestY + originY) * TILE_SIZE + TILE_SIZE / 2;
+        return true;
+    }
+
+    /**
+     * @return Travel cost from the tile to the target in tenths of a tile, or -1 if unknown
+     */
+    public int getDistance(int tileX, int tileY) {
+        int localX = tileX - originX;
+        int localY = tileY - originY;
+        if (!valid || !inWindow(localX, localY)) return -1;
+        int cost = distance[localY * SIZE + localX];
+        return cost == UNREACHED ? -1 : cost;
+    }
+
+    private void compute(WallGrid walls) {
+        Arrays.fill(distance, UNREACHED);
+        queueSize = 0;
+
+        int targetCell = RADIUS * SIZE + RADIUS;
+        distance[targetCell] = 0;
+        push(0, targetCell);
+        propagate(walls);
+    }
+
+    /**
+     * Updates the field for the pending changed regions, in two passes.
+     * The raise pass visits cells in order of their old cost and resets every cell that
+     * became a wall or no longer has a neighbour its cost can be derived from. The lower
+     * pass then seeds the reset and freed cells from their neighbours and resumes the
+     * ordinary sweep, which settles both the new detours and any shortcuts.
+     */
+    private void repair(WallGrid walls) {
+        int targetCell = RADIUS * SIZE + RADIUS;
+        queueSize = 0;
+        int raisedCount = 0;
+
+        for (int r = 0; r < pendingCount; r++) {
+            int base = r * 4;
+            for (int ty = pendingRegions[base + 1]; ty <= pendingRegions[base + 3]; ty++) {
+                for (int tx = pendingRegions[base]; tx <= pendingRegions[base + 2]; tx++) {
+                    int localX = tx - originX;
+                    int localY = ty - originY;
+                    if (!inWindow(localX, localY)) continue;
+
+                    int cell = localY * SIZE + localX;
+                    if (cell != targetCell && distance[cell] != UNREACHED && walls.isWallTile(tx, ty)) {
+                        push(distance[cell], cell);
+                    }
+                }
+            }
+        }
+
+        while (queueSize > 0) {
+            long entry = pop();
+            int cost = (int) (entry >>> 32);
+            int cell = (int) entry;
+            if (distance[cell] != cost) continue;
+
+            int cx = cell % SIZE;
+            int cy = cell / SIZE;
+            if (!walls.isWallTile(cx + originX, cy + originY) && hasSupport(cell, cx, cy)) continue;
+
+            distance[cell] = UNREACHED;
+            raised[raisedCount++] = cell;
+            for (int d = 0; d < DIR_X.length; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (!inWindow(nx, ny)) continue;
+
+                int neighbor = ny * SIZE + nx;
+                if (distance[neighbor] != UNREACHED && distance[neighbor] == cost + DIR_COST[d]) {
+                    push(distance[neighbor], neighbor);
+                }
+            }
+        }
+
+        for (int i = 0; i < raisedCount; i++) {
+            seed(raised[i], walls);
+        }
+        for (int r = 0; r < pendingCount; r++) {
+            int base = r * 4;
+            for (int ty = pendingRegions[base + 1]; ty <= pendingRegions[base + 3]; ty++) {
+                for (int tx = pendingRegions[base]; tx <= pendingRegions[base + 2]; tx++) {
+                    int localX = tx - originX;
+                    int localY = ty - originY;
+                    if (inWindow(localX, localY)) {
+                        seed(localY * SIZE + localX, walls);
+                    }
+                }
+            }
+        }
+        propagate(walls);
+    }
+
+    /**
+     * @return True if a neighbour still offers the cell's current cost
+     */
+    private boolean hasSupport(int cell, int cx, int cy) {
+        int cost = distance[cell];
+        for (int d = 0; d < DIR_X.length; d++) {
+            int nx = cx + DIR_X[d];
+            int ny = cy + DIR_Y[d];
+            if (!inWindow(nx, ny)) continue;
+
+            int neighborCost = distance[ny * SIZE + nx];
+            if (neighborCost != UNREACHED && neighborCost + DIR_COST[d] == cost) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lowers a free cell to the cheapest cost offered by its neighbours and queues it.
+     */
+    private void seed(int cell, WallGrid walls) {
+        int cx = cell % SIZE;
+        int cy = cell / SIZE;
+        if (walls.isWallTile(cx + originX, cy + originY)) return;
+
+        int best = distance[cell];
+        for (int d = 0; d < DIR_X.length; d++) {
+            int nx = cx + DIR_X[d];
+            int ny = cy + DIR_Y[d];
+            if (!inWindow(nx, ny)) continue;
+
+            int neighborCost = distance[ny * SIZE + nx];
+            if (neighborCost != UNREACHED && neighborCost + DIR_COST[d] < best) {
+                best = neighborCost + DIR_COST[d];
+            }
+        }
+        if (best < distance[cell]) {
+            distance[cell] = best;
+            push(best, cell);
+        }
+    }
+
+    private void propagate(WallGrid walls) {
+        while (queueSize > 0) {
+            long entry = pop();
+            int cost = (int) (entry >>> 32);
+            int cell = (int) entry;
+            if (cost > distance[cell]) continue;
+
+            int cx = cell % SIZE;
+            int cy = cell / SIZE;
+            for (int d = 0; d < DIR_X.length; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (!inWindow(nx, ny)) continue;
+
+                int neighbor = ny * SIZE + nx;
+                int newCost = cost + DIR_COST[d];
+                if (newCost >= distance[neighbor]) continue;
+                if (walls.isWallTile(nx + originX, ny + originY)) continue;
+
+                distance[neighbor] = newCost;
+                push(newCost, neighbor);
+            }
+        }
+    }
+
+    private void clearPending() {
+        pendingCount = 0;
+        pendingGlobal = false;
+    }
+
+    private static boolean inWindow(int localX, int localY) {
+        return localX >= 0 && localY >= 0 && localX < SIZE && localY < SIZE;
+    }
+
+    private void push(int cost, int cell) {
+        long entry = ((long) cost << 32) | cell;
+        int index = queueSize++;
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (queue[parent] <= entry) break;
+            queue[index] = queue[parent];
+            index = parent;
+        }
+        queue[index] = entry;
+    }
+
+    private long pop() {
+        long top = queue[0];
+        long last = queue[--queueSize];
+        int index = 0;
+        int half = queueSize >> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            if (child + 1 < queueSize && queue[child + 1] < queue[child]) {
+                child++;
+            }
+            if (last <= queue[child]) break;
+            queue[index] = queue[child];
+            index = child;
+        }
+        queue[index] = last;
+        return top;
+    }
+}
@@ -0,0 +1,171 @@
+package Logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Low-overhead timers for the individual phases of a simulation tick and a rendered frame.
+ * Durations are recorded into one {@link LatencyHistogram} per phase. Once per second the
+ * histograms are published as the "last window" and cleared, so percentiles always describe
+ * recent behaviour. Recording never allocates or locks; a record racing with a window
+ * rollover may be dropped, which is acceptable for profiling.
+ *
+ * <pre>
+ * long start = FrameProfiler.start();
+ * wallManager.update(player, isBossWave);
+ * FrameProfiler.stop(FrameProfiler.Phase.WALLS, start);
+ * </pre>
+ */
+public final class FrameProfiler {
+    /**
+     * Instrumented phases. TICK and RENDER cover a whole step and frame and include the
+     * phases nested inside them; COLLISIONS includes ENEMY_MOVEMENT.
+     */
+    public enum Phase {
+        TICK("tick"),
+        DAMAGE_NUMBERS("damageNumbers"),
+        WALLS("walls"),
+        PLAYER_MOVE("playerMove"),
+        FLOW_FIELD("flowField"),
+        PATH_REQUESTS("pathRequests"),
+        ENEMY_PROJECTILES("enemyProjectiles"),
+        COLLISIONS("collisions"),
+        ENEMY_MOVEMENT("  enemyMovement"),
+        ENEMIES("updateEnemies"),
+        DISTANT_ENEMIES("removeDistant"),
+        RENDER("render"),
+        RENDER_BACKGROUND("  background"),
+        RENDER_WALLS("  walls"),
+        RENDER_ENEMIES("  enemies"),
+        RENDER_DAMAGE_NUMBERS("  damageNumbers"),
+        RENDER_ARROWS("  arrows"),
+        RENDER_BOSSES("  bosses"),
+        RENDER_UI("  ui"),
+        RENDER_PLAYER("  player"),
+        RENDER_CRYSTAL("  crystal"),
+        RENDER_PROGRESS_BAR("  progressBar"),
+        RENDER_ENEMY_PROJECTILES("  enemyProjectiles");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final LatencyHistogram[] current = new LatencyHistogram[PHASES.length];
+    private static final LatencyHistogram[] published = new LatencyHistogram[PHASES.length];
+    private static volatile boolean enabled = true;
+    private static long windowStart = System.nanoTime();
+
+    static {
+        for (int i = 0; i < PHASES.length; i++) {
+            current[i] = new LatencyHistogram();
+            published[i] = new LatencyHistogram();
+        }
+    }
+
+    private FrameProfiler() {
+    }
+
+    /**
+     * @return Timestamp to pass to {@link #stop}, or 0 when profiling is disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start == 0L) return;
+        current[phase.ordinal()].record(System.nanoTime() - start);
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Publishes and clears the current histograms once the window has elapsed.
+     * Called by the game loop once per tick.
+     */
+    public static void rollWindowIfDue() {
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS) return;
+        windowStart = now;
+
+        synchronized (published) {
+            for (int i = 0; i < PHASES.length; i++) {
+                published[i].copyFrom(current[i]);
+                current[i].reset();
+            }
+        }
+    }
+
+    /**
+     * @return Value at the given percentile for the last window, in nanoseconds
+     */
+    public static long getPercentile(Phase phase, double percentile) {
+        synchronized (published) {
+            return published[phase.ordinal()].getPercentile(percentile);
+        }
+    }
+
+    public static long getMax(Phase phase) {
+        synchronized (published) {
+            return published[phase.ordinal()].getMax();
+        }
+    }
+
+    public static long getCount(Phase phase) {
+        synchronized (published) {
+            return published[phase.ordinal()].getCount();
+        }
+    }
+
+    /**
+     * Formats the last window as one line per phase with p50/p95/p99/max in microseconds.
+     * Phases with no samples are skipped.
+     */
+    public static List<String> formatReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-20s %6s %7s %7s %7s %7s", "phase (us)", "n", "p50", "p95", "p99", "max"));
+        synchronized (published) {
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = published[phase.ordinal()];
+                if (histogram.getCount() == 0) continue;
+                lines.add(String.format("%-20s %6d %7.1f %7.1f %7.1f %7.1f",
+                        phase.getLabel(),
+                        histogram.getCount(),
+                        histogram.getPercentile(50) / 1000.0,
+                        histogram.getPercentile(95) / 1000.0,
+                        histogram.getPercentile(99) / 1000.0,
+                        histogram.getMax() / 1000.0));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Clears both the current and the published histograms.
+     */
+    public static void reset() {
+        synchronized (published) {
+            for (int i = 0; i < PHASES.length; i++) {
+                current[i].reset();
+                published[i].reset();
+            }
+            windowStart = System.nanoTime();
+        }
+    }
+}
@@ -14,15 +14,25 @@ import UI.GamePanel;
 import Player.PlayerProjectile;
 
 import java.util.concurrent.CopyOnWriteArrayList;
-import javax.swing.Timer;
-
+import javax.swing.SwingUtilities;
+
+/**
+ * Owns one game: the player, enemies, walls, spawning and the fixed-step update.
+ * The simulation clock, the wave and kill counters, the camera, the map size and the
+ * services enemies look up statically are process-wide, so only one GameLogic may
+ * exist per JVM at a time. Headless simulations for soak tests and benchmarks must
+ * run in their own JVM, not alongside a windowed game.
+ */
 public class GameLogic {
     public static int[][] map;
     public static int mapWidth, mapHeight;
     private Player player;
-    private CopyOnWriteArrayList<Enemy> enemies;
+    private EnemyStore enemies;
+    private final SpawnQueue spawnQueue = new SpawnQueue();
+    /** Most enemies moved from the spawn queue into the world in a single tick. */
+    private static final int MAX_SPAWNS_PER_TICK = 16;
     private CopyOnWriteArrayList<PlayerProjectile> playerProjectiles;
-    private Timer timer;
+    private GameLoop gameLoop;
     private boolean gameOver = false;
     private boolean isPaused = false;
     private static int waveNumber = 0;
@@ -39,12 +49,18 @@ public class GameLogic {
     private CrystalExplosion crystalExplosion;
     private boolean waveCompletionInProgress = false;
     private WallManager wallManager;
+    private final FlowField flowField = new FlowField();
+    private PathRequestQueue pathRequestQueue;
     private boolean isTutorialMode;
+    private final boolean headless;
+    private DamageNumberManager damageManager;
+    private long stepAccumulatorNanos;
 
     public GameLogic(GamePanel gamePanel, Player player, DamageNumberManager damageManager, boolean tutorialMode) {
         this.gamePanel = gamePanel;
         this.player = player;
         this.isTutorialMode = tutorialMode;
+        this.headless = false;
 
         if (!tutorialMode) {
             this.levelManager = new LevelManager();
@@ -62,11 +78,42 @@ public class GameLogic {
         initializeGame(damageManager);
     }
 
+    /**
+     * Creates a headless simulation with no panel, game loop or audio.
+     * The caller drives it with {@link #step(long)} after {@link #startLevel(int)}
+     * or {@link #startTutorial()}. When a wave is cleared the simulation pauses
+     * and the caller decides whether to call {@link #nextWave()}. Like a windowed game it
+     * uses the process-wide clock, counters and services, so it must not share its JVM
+     * with another GameLogic.
+     *
+     * @param player Player to simulate, or null for a fresh one
+     * @param damageManager Receives damage numbers produced by hits
+     * @param tutorialMode True to run the tutorial spawning rules
+     */
+    public GameLogic(Player player, DamageNumberManager damageManager, boolean tutorialMode) {
+        this.player = player;
+        this.isTutorialMode = tutorialMode;
+        this.headless = true;
+
+        if (!tutorialMode) {
+            this.levelManager = new LevelManager();
+        }
+
+        this.wallManager = new WallManager();
+
+        mapManager = new MapManager("Map1.txt");
+
+        mapWidth = mapManager.getBaseWidth();
+        mapHeight = mapManager.getBaseHeight();
+        initializeGame(damageManager);
+    }
+
     private void initializeGame(DamageNumberManager damageManager) {
+        this.damageManager = damageManager;
         if (player == null) {
             player = new Player(mapWidth * GamePanel.BLOCK_SIZE / 2, mapHeight * GamePanel.BLOCK_SIZE / 2, 100);
         } else {
-            if (!isTutorialMode) {
+            if (!isTutorialMode && !headless) {
                 loadPlayerStatus();
             }
             player.setX(mapWidth * GamePanel.BLOCK_SIZE / 2);
@@ -75,18 +122,71 @@ public class GameLogic {
 
         updateAttackSpeed();
 
-        enemies = new CopyOnWriteArrayList<>();
+        enemies = new EnemyStore();
         playerProjectiles = new CopyOnWriteArrayList<>();
         collisions = new Collisions(player, enemies, playerProjectiles, damageManager, wallManager, gamePanel);
-        EnemyProjectile.setWallManager(wallManager);
-        DarkMageBoss.setWallManager(wallManager);
-        spawningEnemies = new SpawningEnemies(gamePanel, enemies);
+        wallManager.addChangeListener(flowField);
+        wallManager.addChangeListener(change -> {
+            for (Enemy enemy : enemies) {
+                enemy.onWallsChanged(change);
+            }
+        });
+        pathRequestQueue = headless
+                ? new PathRequestQueue()
+                : new PathRequestQueue(new PathWorkerPool(PathWorkerPool.defaultThreadCount()));
+        installServices();
+        spawningEnemies = new SpawningEnemies(enemies, spawnQueue, wallManager);
         spawningEnemies.setPlayerReference(player);
 
-        timer = new Timer(15, gamePanel);
+        if (!headless) {
+            gameLoop = new GameLoop(gamePanel::tick, gamePanel::presentFrame, GameLoop.DEFAULT_TICK_RATE);
+        }
         waveNumber = 0;
     }
 
+    /**
+     * Advances a headless simulation by the given amount of time in fixed ticks.
+     * Leftover time is carried over to the next call.
+     *
+     * @param dtNanos Elapsed time in nanoseconds
+     * @return Number of ticks that were run
+     */
+    public int step(long dtNanos) {
+        long tickNanos = getTickNanos();
+        stepAccumulatorNanos += dtNanos;
+
+        int ticks = 0;
+        while (stepAccumulatorNanos >= tickNanos) {
+            stepAccumulatorNanos -= tickNanos;
+            update(damageManager);
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Points the statically shared enemy services at this game's walls, flow field and
+     * path queue.
+     */
+    private void installServices() {
+        EnemyProjectile.setWallManager(wallManager);
+        DarkMageBoss.setWallManager(wallManager);
+        Enemy.setFlowField(flowField);
+        Enemy.setPathRequestQueue(pathRequestQueue);
+    }
+
+    private long getTickNanos() {
+        return gameLoop != null ? gameLoop.getStepNanos() : 1_000_000_000L / GameLoop.DEFAULT_TICK_RATE;
+    }
+
+    /**
+     * Centres the camera on the player.
+     */
+    public static void updateCamera(Player player) {
+        cameraX = player.getX() - GamePanel.CAMERA_WIDTH * 2;
+        cameraY = player.getY() - GamePanel.CAMERA_HEIGHT * 2;
+    }
+
     public void startTutorial() {
         waveNumber = 1;
         killCount = 0;
@@ -99,11 +199,13 @@ public class GameLogic {
         player.setY(mapHeight * GamePanel.BLOCK_SIZE / 2);
 
         enemies.clear();
+        spawnQueue.clear();
+        pathRequestQueue.clear();
         playerProjectiles.clear();
 
         spawningEnemies.spawnTutorialEnemies(10);
 
-        timer.start();
+        if (gameLoop != null) gameLoop.start();
         resumeGame();
     }
 
@@ -122,30 +224,47 @@ public class GameLogic {
         player.setY(mapHeight * GamePanel.BLOCK_SIZE / 2);
 
         enemies.clear();
+        spawnQueue.clear();
+        pathRequestQueue.clear();
         playerProjectiles.clear();
 
         nextWave();
-        timer.start();
+        if (gameLoop != null) gameLoop.start();
     }
 
     public void update(DamageNumberManager damageManager) {
         if (!gameOver && !isPaused) {
+            GameClock.advance(getTickNanos());
+            spawningEnemies.update(getTickNanos());
+            spawnQueue.drainTo(enemies, MAX_SPAWNS_PER_TICK);
+
+            long phaseStart = FrameProfiler.start();
             damageManager.update();
+            FrameProfiler.stop(FrameProfiler.Phase.DAMAGE_NUMBERS, phaseStart);
             updateAttackSpeed();
 
-            boolean isBossWave = false;
-            for (Enemy enemy : enemies) {
-                if (enemy instanceof DarkMageBoss || enemy instanceof BunnyBoss) {
-                    isBossWave = true;
-                    break;
-                }
-            }
+            boolean isBossWave = enemies.hasBoss();
 
+            phaseStart = FrameProfiler.start();
             wallManager.update(player, isBossWave);
+            FrameProfiler.stop(FrameProfiler.Phase.WALLS, phaseStart);
 
+            phaseStart = FrameProfiler.start();
             player.move(wallManager);
+            updateCamera(player);
+            FrameProfiler.stop(FrameProfiler.Phase.PLAYER_MOVE, phaseStart);
+
+            phaseStart = FrameProfiler.start();
+            flowField.update(player.getX() + 25, player.getY() + 25, wallManager);
+            FrameProfiler.stop(FrameProfiler.Phase.FLOW_FIELD, phaseStart);
 
+            phaseStart = FrameProfiler.start();
+            pathRequestQueue.process(wallManager);
+            FrameProfiler.stop(FrameProfiler.Phase.PATH_REQUESTS, phaseStart);
+
+            phaseStart = FrameProfiler.start();
             Enemy.updateAllProjectiles();
+            FrameProfiler.stop(FrameProfiler.Phase.ENEMY_PROJECTILES, phaseStart);
 
             if (crystalExplosion != null) {
                 crystalExplosion.update();
@@ -159,14 +278,13 @@ public class GameLogic {
                     crystalExplosion = null;
                     waveCompletionInProgress = false;
 
-                    if (isTutorialMode) {
-                        pauseGame();
-                        gamePanel.onWaveComplete();
-                    } else if (waveNumber >= 10) {
+                    if (!isTutorialMode && waveNumber >= 10) {
                         onLevelComplete();
                     } else {
                         pauseGame();
-                        gamePanel.onWaveComplete();
+                        if (gamePanel != null) {
+                            SwingUtilities.invokeLater(gamePanel::onWaveComplete);
+                        }
                     }
                 }
 
@@ -174,12 +292,19 @@ public class GameLogic {
             }
 
             if (!waveCompletionInProgress) {
+                phaseStart = FrameProfiler.start();
                 collisions.checkCollisions();
+                FrameProfiler.stop(FrameProfiler.Phase.COLLISIONS, phaseStart);
                 gameOver = collisions.isGameOver();
             }
 
+            phaseStart = FrameProfiler.start();
             updateEnemies(damageManager);
+            FrameProfiler.stop(FrameProfiler.Phase.ENEMIES, phaseStart);
+
+            phaseStart = FrameProfiler.start();
             spawningEnemies.removeDistantEnemies(player.getX(), player.getY());
+            FrameProfiler.stop(FrameProfiler.Phase.DISTANT_ENEMIES, phaseStart);
 
             if (!waveCompletionInProgress) {
                 checkWaveCompletion();
@@ -191,6 +316,8 @@ public class GameLogic {
     public void nextWave() {
         spawningEnemies.stopCurrentSpawn();
         enemies.clear();
+        spawnQueue.clear();
+        pathRequestQueue.clear();
         waveNumber++;
         playerProjectiles.clear();
         Enemy.clearAllProjectiles();
@@ -298,14 +425,7 @@ public class GameLogic {
             boolean isBossWave = (waveData != null && waveData.hasBoss());
 
             if (isBossWave) {
-                boolean bossAlive = false;
-                for (Enemy enemy : enemies) {
-                    if (enemy instanceof DarkMageBoss || enemy instanceof BunnyBoss) {
-                        bossAlive = true;
-                        break;
-                    }
-                }
-                waveComplete = !bossAlive;
+                waveComplete = !enemies.hasBoss();
             } else {
                 int requiredKills = 50 * waveNumber;
                 waveComplete = killCount >= requiredKills;
@@ -327,15 +447,17 @@ public class GameLogic {
 
     private void onLevelComplete() {
         pauseGame();
-        levelManager.unlockNextLevel();
-        gamePanel.onLevelComplete();
+        if (gamePanel != null) {
+            levelManager.unlockNextLevel();
+            SwingUtilities.invokeLater(gamePanel::onLevelComplete);
+        }
     }
 
     private void checkGameOver() {
         if (player.getHp() <= 0) {
             gameOver = true;
             spawningEnemies.stopCurrentSpawn();
-            if (!isTutorialMode) {
+            if (!isTutorialMode && !headless) {
                 savePlayerCoins();
                 player.saveLocation("player_save.dat");
                 loadPlayerStatus();
@@ -350,7 +472,7 @@ public class GameLogic {
     }
 
     public void tryToShoot(int mouseX, int mouseY) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - lastShotTime >= attackSpeedInterval) {
             shoot(mouseX, mouseY);
             lastShotTime = currentTime;
@@ -399,28 +521,42 @@ public class GameLogic {
     }
 
     public void pauseGame() {
-        timer.stop();
+        if (gameLoop != null) gameLoop.pause();
         isPaused = true;
-        backgroundMusic.stop();
+        if (!headless) {
+            GameClock.setPaused(true);
+            backgroundMusic.stop();
+        }
         spawningEnemies.pauseSpawning();
     }
 
     public void resumeGame() {
-        timer.start();
+        if (gameLoop != null) gameLoop.start();
         isPaused = false;
-        backgroundMusic.playLoop();
+        if (!headless) {
+            GameClock.setPaused(false);
+            backgroundMusic.playLoop();
+        }
         spawningEnemies.resumeSpawning();
     }
 
+    /**
+     * Stops the simulation thread and tears the game down. Must not be called while
+     * holding the state lock, since it waits for the step in progress to finish.
+     */
     public void stopGame() {
+        if (gameLoop != null) gameLoop.stop();
         pauseGame();
-        backgroundMusic.stop();
+        if (!headless) backgroundMusic.stop();
         enemies.clear();
+        spawnQueue.clear();
+        pathRequestQueue.clear();
         playerProjectiles.clear();
         Enemy.clearAllProjectiles();
         spawningEnemies.stopCurrentSpawn();
         wallManager.clearWalls();
         collisions = null;
+        pathRequestQueue.shutdown();
         spawningEnemies = null;
     }
 
@@ -451,10 +587,24 @@ public class GameLogic {
     }
 
     public Player getPlayer() { return player; }
-    public CopyOnWriteArrayList<Enemy> getEnemies() { return enemies; }
+    public EnemyStore getEnemies() { return enemies; }
     public CopyOnWriteArrayList<PlayerProjectile> getPlayerProjectiles() { return playerProjectiles; }
     public boolean isGameOver() { return gameOver; }
     public boolean isPaused() { return isPaused; }
+
+    /**
+     * Sets how fast the simulation runs compared to real time.
+     *
+     * @param speed Speed multiplier, clamped by {@link GameClock#setTimeScale(double)}
+     */
+    public void setGameSpeed(double speed) {
+        GameClock.setTimeScale(speed);
+    }
+
+    public double getGameSpeed() {
+        return GameClock.getTimeScale();
+    }
+    public boolean isHeadless() { return headless; }
     public static int getWaveNumber() { return waveNumber; }
     public int getKillCount() { return killCount; }
     public int getCameraX() { return cameraX; }
@@ -463,4 +613,5 @@ public class GameLogic {
     public LevelManager getLevelManager() { return levelManager; }
     public CrystalExplosion getCrystalExplosion() { return crystalExplosion; }
     public WallManager getWallManager() { return wallManager; }
+    public GameLoop getGameLoop() { return gameLoop; }
 }
\ No newline at end of file
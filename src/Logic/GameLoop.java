@@ -0,0 +1,167 @@
+package Logic;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-timestep simulation loop running on its own thread.
+ * Real elapsed time is accumulated and consumed in constant-size steps, so the
+ * simulation advances at the same rate no matter how long a frame takes to draw.
+ * After every batch of steps the frame callback is invoked to present the latest
+ * completed state. Real time is multiplied by {@link GameClock#getTimeScale()} before
+ * it is accumulated, so fast-forwarding runs more steps per second.
+ */
+public class GameLoop implements Runnable {
+    /** Matches the 15 ms period of the original Swing timer. */
+    public static final int DEFAULT_TICK_RATE = 66;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+
+    private final Runnable tick;
+    private final Runnable frame;
+    private final Object stateLock = new Object();
+
+    private volatile long stepNanos;
+    private volatile boolean running = false;
+    private volatile boolean paused = true;
+    private volatile Thread thread;
+
+    /**
+     * Creates a new loop.
+     *
+     * @param tick Simulation step, always invoked while holding the state lock
+     * @param frame Presentation callback invoked after each batch of steps
+     * @param tickRate Simulation steps per second
+     */
+    public GameLoop(Runnable tick, Runnable frame, int tickRate) {
+        this.tick = tick;
+        this.frame = frame;
+        setTickRate(tickRate);
+    }
+
+    /**
+     * Lock guarding all game state touched by the simulation step.
+     * Renderers must hold it while reading the world.
+     */
+    public Object getStateLock() {
+        return stateLock;
+    }
+
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.stepNanos = 1_000_000_000L / tickRate;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Starts (or resumes) the simulation thread.
+     */
+    public synchronized void start() {
+        paused = false;
+        if (thread == null) {
+            running = true;
+            thread = new Thread(this, "GameLoop");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Suspends stepping without terminating the thread.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Terminates the simulation thread. A later {@link #start()} spawns a fresh one.
+     * When called from another thread this waits for the step in progress to finish and
+     * the thread to exit, so the caller may tear the game state down afterwards. It must
+     * not be called while holding the state lock.
+     */
+    public void stop() {
+        Thread stopped;
+        synchronized (this) {
+            running = false;
+            paused = true;
+            notifyAll();
+            stopped = thread;
+            thread = null;
+        }
+        if (stopped == null || stopped == Thread.currentThread()) {
+            return;
+        }
+
+        stopped.interrupt();
+        try {
+            stopped.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running && thread == Thread.currentThread()) {
+            if (paused) {
+                waitWhilePaused();
+                previous = System.nanoTime();
+                accumulator = 0;
+                continue;
+            }
+
+            long now = System.nanoTime();
+            accumulator += (long) ((now - previous) * GameClock.getTimeScale());
+            previous = now;
+
+            long step = stepNanos;
+            int steps = 0;
+            while (accumulator >= step && steps < MAX_CATCH_UP_STEPS && running && !paused) {
+                synchronized (stateLock) {
+                    try {
+                        tick.run();
+                    } catch (RuntimeException e) {
+                        e.printStackTrace();
+                    }
+                }
+                accumulator -= step;
+                steps++;
+            }
+
+            if (accumulator >= step && steps == MAX_CATCH_UP_STEPS) {
+                // Too far behind: drop the backlog instead of spiralling.
+                accumulator = 0;
+            }
+
+            if (steps > 0 && running) {
+                frame.run();
+            }
+
+            long sleep = step - accumulator;
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+
+    private synchronized void waitWhilePaused() {
+        while (running && paused) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package Logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical (HPA*-style) path search over the wall grid.
+ * The grid is divided into clusters matching the {@link WallGrid#REGION_TILES} regions,
+ * which line up with the chunks {@link WallManager} generates walls for. Along every
+ * cluster border each run of tiles that is open on both sides gets one portal (two for
+ * long runs), and the travel costs between all portals of a cluster are precomputed
+ * with a search confined to that cluster. A long query then runs A* over this small
+ * portal graph and only the first leg, up to the next portal, is refined on the tile
+ * grid.
+ *
+ * <p>Clusters are built lazily the first time a search reaches them and remember the
+ * region version they were built at; a cluster is rebuilt only when walls in or right
+ * next to its region changed. Costs are in tenths of a tile (10 straight, 14
+ * diagonal). An instance is not thread-safe; use one per thread.</p>
+ */
+public class HierarchicalPathFinder {
+    public static final int CLUSTER_TILES = WallGrid.REGION_TILES;
+    /** Abstract nodes a single query may expand before giving up. */
+    public static final int MAX_EXPANSIONS = 4000;
+    /** Clusters further than this from the start cluster are never entered. */
+    private static final int MAX_CLUSTER_RADIUS = 12;
+    /** Built clusters kept before the whole cache is dropped. */
+    private static final int MAX_CLUSTERS = 4096;
+    /** Border runs at least this long get a portal at each end instead of one in the middle. */
+    private static final int LONG_RUN = 6;
+
+    private static final int CELLS = CLUSTER_TILES * CLUSTER_TILES;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int[] DIR_X = {0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int[] DIR_Y = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] DIR_COST = {10, 10, 10, 10, 14, 14, 14, 14};
+
+    /** Border sides; a portal on one side links to the portal on the opposite side next door. */
+    private static final int WEST = 0, EAST = 1, NORTH = 2, SOUTH = 3;
+    private static final int[] SIDE_DX = {-1, 1, 0, 0};
+    private static final int[] SIDE_DY = {0, 0, -1, 1};
+    private static final int[] OPPOSITE = {EAST, WEST, SOUTH, NORTH};
+
+    private static final class Cluster {
+        final int clusterX, clusterY;
+        final int version;
+        int portalCount;
+        int[] localX = new int[8];
+        int[] localY = new int[8];
+        int[] side = new int[8];
+        /** Cost between portals, UNREACHED if they are not connected inside the cluster. */
+        int[][] cost;
+
+        Cluster(int clusterX, int clusterY, int version) {
+            this.clusterX = clusterX;
+            this.clusterY = clusterY;
+            this.version = version;
+        }
+
+        int originX() {
+            return clusterX * CLUSTER_TILES;
+        }
+
+        int originY() {
+            return clusterY * CLUSTER_TILES;
+        }
+
+        void addPortal(int x, int y, int portalSide) {
+            if (portalCount == localX.length) {
+                localX = Arrays.copyOf(localX, portalCount * 2);
+                localY = Arrays.copyOf(localY, portalCount * 2);
+                side = Arrays.copyOf(side, portalCount * 2);
+            }
+            localX[portalCount] = x;
+            localY[portalCount] = y;
+            side[portalCount] = portalSide;
+            portalCount++;
+        }
+
+        int findPortal(int x, int y, int portalSide) {
+            for (int i = 0; i < portalCount; i++) {
+                if (localX[i] == x && localY[i] == y && side[i] == portalSide) return i;
+            }
+            return -1;
+        }
+    }
+
+    private final Map<Long, Cluster> clusters = new HashMap<>();
+
+    // Scratch space for searches confined to one cluster.
+    private final int[] cellCost = new int[CELLS];
+    private long[] cellHeap = new long[CELLS];
+    private final int[] startCost = new int[CELLS];
+    private final int[] goalCost = new int[CELLS];
+
+    // Abstract search state, reused between queries.
+    private final List<Cluster> nodeCluster = new ArrayList<>();
+    private int[] nodePortal = new int[256];
+    private int[] nodeG = new int[256];
+    private int[] nodeParent = new int[256];
+    private boolean[] nodeClosed = new boolean[256];
+    private int nodeCount;
+    private final Map<Long, Integer> nodeIndex = new HashMap<>();
+    private long[] openHeap = new long[256];
+    private int openSize;
+    private int lastExpansions;
+
+    /**
+     * Finds the first waypoint on a long path: the tile the mover should head for next,
+     * which is either a portal in the start cluster or, within the same cluster, the goal.
+     *
+     * @param waypointOut Receives the waypoint tile as {x, y}
+     * @return False if no route was found within the expansion budget
+     */
+    public boolean findFirstWaypoint(int startTileX, int startTileY, int goalTileX, int goalTileY,
+                                     WallGrid walls, int[] waypointOut) {
+        lastExpansions = 0;
+        if (walls.isWallTile(goalTileX, goalTileY)) return false;
+
+        Cluster startCluster = getCluster(Math.floorDiv(startTileX, CLUSTER_TILES),
+                Math.floorDiv(startTileY, CLUSTER_TILES), walls);
+        Cluster goalCluster = getCluster(Math.floorDiv(goalTileX, CLUSTER_TILES),
+                Math.floorDiv(goalTileY, CLUSTER_TILES), walls);
+
+        if (startCluster == goalCluster) {
+            localCosts(startCluster, startTileX - startCluster.originX(), startTileY - startCluster.originY(), walls, cellCost);
+            if (cellCost[cellOf(goalTileX - goalCluster.originX(), goalTileY - goalCluster.originY())] != UNREACHED) {
+                waypointOut[0] = goalTileX;
+                waypointOut[1] = goalTileY;
+                return true;
+            }
+        }
+
+        localCosts(startCluster, startTileX - startCluster.originX(), startTileY - startCluster.originY(), walls, startCost);
+        localCosts(goalCluster, goalTileX - goalCluster.originX(), goalTileY - goalCluster.originY(), walls, goalCost);
+
+        resetSearch();
+        int startNode = addNode(startCluster, -1, 0, -1);
+        int goalNode = addNode(goalCluster, -2, UNREACHED, -1);
+
+        for (int p = 0; p < startCluster.portalCount; p++) {
+            int cost = startCost[cellOf(startCluster.localX[p], startCluster.localY[p])];
+            if (cost != UNREACHED) {
+                relax(startCluster, p, cost, startNode, goalTileX, goalTileY);
+            }
+        }
+
+        while (openSize > 0 && lastExpansions < MAX_EXPANSIONS) {
+            int node = popOpen();
+            if (nodeClosed[node]) continue;
+            nodeClosed[node] = true;
+            lastExpansions++;
+
+            if (node == goalNode) {
+                return writeFirstWaypoint(goalNode, startNode, startTileX, startTileY,
+                        goalTileX, goalTileY, waypointOut);
+            }
+
+            Cluster cluster = nodeCluster.get(node);
+            int portal = nodePortal[node];
+            int g = nodeG[node];
+
+            if (cluster == goalCluster) {
+                int toGoal = goalCost[cellOf(cluster.localX[portal], cluster.localY[portal])];
+                if (toGoal != UNREACHED && g + toGoal < nodeG[goalNode]) {
+                    nodeG[goalNode] = g + toGoal;
+                    nodeParent[goalNode] = node;
+                    pushOpen(goalNode, g + toGoal);
+                }
+            }
+
+            int[] row = cluster.cost[portal];
+            for (int q = 0; q < cluster.portalCount; q++) {
+                if (q != portal && row[q] != UNREACHED) {
+                    relax(cluster, q, g + row[q], node, goalTileX, goalTileY);
+                }
+            }
+
+            int side = cluster.side[portal];
+            int neighborX = cluster.clusterX + SIDE_DX[side];
+            int neighborY = cluster.clusterY + SIDE_DY[side];
+            if (Math.abs(neighborX - startCluster.clusterX) > MAX_CLUSTER_RADIUS
+                    || Math.abs(neighborY - startCluster.clusterY) > MAX_CLUSTER_RADIUS) {
+                continue;
+            }
+            Cluster neighbor = getCluster(neighborX, neighborY, walls);
+            int partnerX = cluster.originX() + cluster.localX[portal] + SIDE_DX[side] - neighbor.originX();
+            int partnerY = cluster.originY() + cluster.localY[portal] + SIDE_DY[side] - neighbor.originY();
+            int partner = neighbor.findPortal(partnerX, partnerY, OPPOSITE[side]);
+            if (partner >= 0) {
+                relax(neighbor, partner, g + 10, node, goalTileX, goalTileY);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Number of abstract nodes expanded by the most recent query
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
+    /**
+     * @return Number of clusters currently built
+     */
+    public int getClusterCount() {
+        return clusters.size();
+    }
+
+    private boolean writeFirstWaypoint(int goalNode, int startNode, int startTileX, int startTileY,
+                                       int goalTileX, int goalTileY, int[] out) {
+        // Walk back from the goal and keep the earliest waypoint that is not the start tile itself.
+        out[0] = goalTileX;
+        out[1] = goalTileY;
+        for (int node = nodeParent[goalNode]; node != startNode; node = nodeParent[node]) {
+            Cluster cluster = nodeCluster.get(node);
+            int portal = nodePortal[node];
+            int tileX = cluster.originX() + cluster.localX[portal];
+            int tileY = cluster.originY() + cluster.localY[portal];
+            if (tileX != startTileX || tileY != startTileY) {
+                out[0] = tileX;
+                out[1] = tileY;
+            }
+        }
+        return true;
+    }
+
+    private void relax(Cluster cluster, int portal, int g, int parent, int goalTileX, int goalTileY) {
+        long key = ((long) cluster.clusterX << 40) ^ ((long) (cluster.clusterY & 0xFFFFF) << 20) ^ portal;
+        Integer existing = nodeIndex.get(key);
+        int node;
+        if (existing == null) {
+            node = addNode(cluster, portal, g, parent);
+            nodeIndex.put(key, node);
+        } else {
+            node = existing;
+            if (nodeClosed[node] || g >= nodeG[node]) return;
+            nodeG[node] = g;
+            nodeParent[node] = parent;
+        }
+
+        int tileX = cluster.originX() + cluster.localX[portal];
+        int tileY = cluster.originY() + cluster.localY[portal];
+        pushOpen(node, g + heuristic(tileX, tileY, goalTileX, goalTileY));
+    }
+
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        int dx = Math.abs(goalX - x);
+        int dy = Math.abs(goalY - y);
+        return 10 * Math.max(dx, dy) + 4 * Math.min(dx, dy);
+    }
+
+    private Cluster getCluster(int clusterX, int clusterY, WallGrid walls) {
+        long key = ((long) clusterX << 32) | (clusterY & 0xffffffffL);
+        int version = walls.getRegionVersion(clusterX, clusterY);
+        Cluster cluster = clusters.get(key);
+        if (cluster == null || cluster.version != version) {
+            if (cluster == null && clusters.size() >= MAX_CLUSTERS) {
+                clusters.clear();
+            }
+            cluster = buildCluster(clusterX, clusterY, version, walls);
+            clusters.put(key, cluster);
+        }
+        return cluster;
+    }
+
+    private Cluster buildCluster(int clusterX, int clusterY, int version, WallGrid walls) {
+        Cluster cluster = new Cluster(clusterX, clusterY, version);
+        int originX = cluster.originX();
+        int originY = cluster.originY();
+        int last = CLUSTER_TILES - 1;
+
+        for (int s = 0; s < 4; s++) {
+            int runStart = -1;
+            for (int i = 0; i <= CLUSTER_TILES; i++) {
+                boolean open = false;
+                if (i < CLUSTER_TILES) {
+                    int x = s == WEST ? 0 : s == EAST ? last : i;
+                    int y = s == NORTH ? 0 : s == SOUTH ? last : i;
+                    open = !walls.isWallTile(originX + x, originY + y)
+                            && !walls.isWallTile(originX + x + SIDE_DX[s], originY + y + SIDE_DY[s]);
+                }
+
+                if (open && runStart < 0) {
+                    runStart = i;
+                } else if (!open && runStart >= 0) {
+                    addRunPortals(cluster, s, runStart, i - 1);
+                    runStart = -1;
+                }
+            }
+        }
+
+        int count = cluster.portalCount;
+        cluster.cost = new int[count][count];
+        for (int p = 0; p < count; p++) {
+            localCosts(cluster, cluster.localX[p], cluster.localY[p], walls, cellCost);
+            for (int q = 0; q < count; q++) {
+                cluster.cost[p][q] = cellCost[cellOf(cluster.localX[q], cluster.localY[q])];
+            }
+        }
+        return cluster;
+    }
+
+    private static void addRunPortals(Cluster cluster, int side, int from, int to) {
+        int last = CLUSTER_TILES - 1;
+        if (to - from + 1 >= LONG_RUN) {
+            addSidePortal(cluster, side, from, last);
+            addSidePortal(cluster, side, to, last);
+        } else {
+            addSidePortal(cluster, side, (from + to) / 2, last);
+        }
+    }
+
+    private static void addSidePortal(Cluster cluster, int side, int along, int last) {
+        int x = side == WEST ? 0 : side == EAST ? last : along;
+        int y = side == NORTH ? 0 : side == SOUTH ? last : along;
+        cluster.addPortal(x, y, side);
+    }
+
+    /**
+     * Dijkstra from one tile to every tile of its cluster, never leaving the cluster.
+     */
+    private void localCosts(Cluster cluster, int sourceX, int sourceY, WallGrid walls, int[] costOut) {
+        Arrays.fill(costOut, UNREACHED);
+        int originX = cluster.originX();
+        int originY = cluster.originY();
+        if (walls.isWallTile(originX + sourceX, originY + sourceY)) return;
+
+        int heapSize = 0;
+        int source = cellOf(sourceX, sourceY);
+        costOut[source] = 0;
+        cellHeap[heapSize++] = source;
+
+        while (heapSize > 0) {
+            long top = cellHeap[0];
+            long moved = cellHeap[--heapSize];
+            if (heapSize > 0) siftDown(cellHeap, heapSize, moved);
+
+            int cell = (int) top;
+            int cost = (int) (top >>> 32);
+            if (cost > costOut[cell]) continue;
+
+            int cx = cell % CLUSTER_TILES;
+            int cy = cell / CLUSTER_TILES;
+            for (int d = 0; d < DIR_X.length; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= CLUSTER_TILES || ny >= CLUSTER_TILES) continue;
+
+                int neighbor = cellOf(nx, ny);
+                int next = cost + DIR_COST[d];
+                if (next >= costOut[neighbor]) continue;
+                if (walls.isWallTile(originX + nx, originY + ny)) continue;
+
+                costOut[neighbor] = next;
+                if (heapSize == cellHeap.length) {
+                    cellHeap = Arrays.copyOf(cellHeap, heapSize * 2);
+                }
+                siftUp(cellHeap, heapSize++, ((long) next << 32) | neighbor);
+            }
+        }
+    }
+
+    private static int cellOf(int localX, int localY) {
+        return localY * CLUSTER_TILES + localX;
+    }
+
+    private void resetSearch() {
+        nodeCluster.clear();
+        nodeIndex.clear();
+        nodeCount = 0;
+        openSize = 0;
+    }
+
+    private int addNode(Cluster cluster, int portal, int g, int parent) {
+        if (nodeCount == nodeG.length) {
+            int capacity = nodeCount * 2;
+            nodePortal = Arrays.copyOf(nodePortal, capacity);
+            nodeG = Arrays.copyOf(nodeG, capacity);
+            nodeParent = Arrays.copyOf(nodeParent, capacity);
+            nodeClosed = Arrays.copyOf(nodeClosed, capacity);
+        }
+        nodeCluster.add(cluster);
+        nodePortal[nodeCount] = portal;
+        nodeG[nodeCount] = g;
+        nodeParent[nodeCount] = parent;
+        nodeClosed[nodeCount] = false;
+        return nodeCount++;
+    }
+
+    private void pushOpen(int node, int f) {
+        if (openSize == openHeap.length) {
+            openHeap = Arrays.copyOf(openHeap, openSize * 2);
+        }
+        siftUp(openHeap, openSize++, ((long) f << 32) | node);
+    }
+
+    private int popOpen() {
+        long top = openHeap[0];
+        long moved = openHeap[--openSize];
+        if (openSize > 0) siftDown(openHeap, openSize, moved);
+        return (int) top;
+    }
+
+    private static void siftUp(long[] heap, int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(long[] heap, int size, long value) {
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (value <= heap[child]) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,122 @@
+package Logic;
+
+import UI.GamePanel;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded cache of ray test results between pairs of tiles.
+ * Enemies crowding the same tiles ask the same question about the player's tile many
+ * times per tick. The first query of a tile pair casts a conservative ray between the
+ * two tile centres, widened by half a tile diagonal and lengthened by the same amount
+ * at both ends, so that it covers the ray between any two points of those tiles. If
+ * that ray is clear, every later query of the pair is answered clear until the walls
+ * change; otherwise queries fall back to an exact cast from their own points. Queries
+ * between neighbouring tiles and very long rays are never cached.
+ *
+ * <p>The cache is direct-mapped: each tile pair hashes to one slot and replaces whatever
+ * was there. A slot is a single long holding the start tile, the offset to the end
+ * tile, the result and the low bits of the wall version it was computed at, so entries
+ * from before a wall change are simply ignored, and concurrent readers and writers can
+ * never see a half-written entry.</p>
+ */
+public class LineOfSightCache {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int TILE_SIZE = GamePanel.BLOCK_SIZE;
+    /** Furthest any point of a tile is from the tile's centre. */
+    private static final double TILE_REACH = TILE_SIZE * Math.sqrt(0.5);
+    /** Longest tile offset per axis that fits in an entry. */
+    private static final int MAX_OFFSET = 127;
+    private static final int RESULT_BIT = 48;
+    private static final int EPOCH_SHIFT = 49;
+    private static final long EPOCH_MASK = (1L << (64 - EPOCH_SHIFT)) - 1;
+    private static final long KEY_MASK = (1L << RESULT_BIT) - 1;
+
+    private final AtomicLongArray slots;
+    private final int slotMask;
+    private final double halfWidth;
+
+    /**
+     * @param halfWidth Half width of the swept ray in pixels, 0 for a thin line of sight
+     */
+    public LineOfSightCache(double halfWidth) {
+        this(halfWidth, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public LineOfSightCache(double halfWidth, int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.slotMask = size - 1;
+        this.halfWidth = halfWidth;
+    }
+
+    /**
+     * @return True if the ray between the two world points is not blocked by a wall
+     */
+    public boolean isClear(int startX, int startY, int endX, int endY, WallGrid walls) {
+        int startTileX = WallManager.toTile(startX);
+        int startTileY = WallManager.toTile(startY);
+        int offsetX = WallManager.toTile(endX) - startTileX;
+        int offsetY = WallManager.toTile(endY) - startTileY;
+
+        int reach = Math.max(Math.abs(offsetX), Math.abs(offsetY));
+        if (reach <= 1 || reach > MAX_OFFSET) {
+            return cast(startX, startY, endX, endY, walls);
+        }
+
+        long key = (startTileX & 0xFFFFL)
+                | (startTileY & 0xFFFFL) << 16
+                | (long) (offsetX + 128) << 32
+                | (long) (offsetY + 128) << 40;
+        long epoch = walls.getWallVersion() & EPOCH_MASK;
+        int slot = hash(key) & slotMask;
+
+        long entry = slots.get(slot);
+        boolean pairClear;
+        if ((entry & KEY_MASK) == key && entry >>> EPOCH_SHIFT == epoch) {
+            pairClear = (entry >>> RESULT_BIT & 1) != 0;
+        } else {
+            pairClear = castTilePair(startTileX, startTileY, offsetX, offsetY, walls);
+            slots.lazySet(slot, key | (pairClear ? 1L << RESULT_BIT : 0) | epoch << EPOCH_SHIFT);
+        }
+        return pairClear || cast(startX, startY, endX, endY, walls);
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.lazySet(i, 0);
+        }
+    }
+
+    /**
+     * Casts the ray between two tile centres, grown by {@link #TILE_REACH} sideways and
+     * at both ends. Clear means the ray between any point of the start tile and any point
+     * of the end tile is clear.
+     */
+    private boolean castTilePair(int startTileX, int startTileY, int offsetX, int offsetY, WallGrid walls) {
+        double half = TILE_SIZE / 2.0;
+        double fromX = startTileX * (double) TILE_SIZE + half;
+        double fromY = startTileY * (double) TILE_SIZE + half;
+        double length = Math.hypot(offsetX, offsetY) * TILE_SIZE;
+        double margin = halfWidth + TILE_REACH;
+        double extendX = offsetX * TILE_SIZE / length * margin;
+        double extendY = offsetY * TILE_SIZE / length * margin;
+        return GridRaycast.isClearThick(fromX - extendX, fromY - extendY,
+                fromX + offsetX * TILE_SIZE + extendX, fromY + offsetY * TILE_SIZE + extendY, margin, walls);
+    }
+
+    private boolean cast(double startX, double startY, double endX, double endY, WallGrid walls) {
+        return halfWidth > 0
+                ? GridRaycast.isClearThick(startX, startY, endX, endY, halfWidth, walls)
+                : GridRaycast.isClear(startX, startY, endX, endY, walls);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+}
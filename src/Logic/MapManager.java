@@ -1,21 +1,29 @@
 package Logic;
 
-import Player.Player;
 import UI.GamePanel;
 
+import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
-import java.awt.Image;
 
 public class MapManager {
+    private static final int SECTION_TILES = 8;
+
     private int[][] baseMap;
     private int baseWidth, baseHeight;
     private Image[] blockImages;
 
+    private int sectionCols, sectionRows;
+    private Image[] sectionCache;
+
     public MapManager(String filename) {
         loadBaseMap(filename);
         loadBlockImages();
+
+        sectionCols = (baseWidth + SECTION_TILES - 1) / SECTION_TILES;
+        sectionRows = (baseHeight + SECTION_TILES - 1) / SECTION_TILES;
+        sectionCache = new Image[sectionCols * sectionRows];
     }
 
     private void loadBaseMap(String filename) {
@@ -54,49 +62,86 @@ public class MapManager {
         blockImages = new Image[26];
         try {
             for (int i = 0; i < blockImages.length; i++) {
-                Image original = ImageIO.read(getClass().getResourceAsStream("/WATVA/Background/Block" + i + ".png"));
-                blockImages[i] = original.getScaledInstance(
-                        GamePanel.BLOCK_SIZE,
-                        GamePanel.BLOCK_SIZE,
-                        Image.SCALE_SMOOTH
-                );
+                blockImages[i] = TextureCache.get("/WATVA/Background/Block" + i + ".png",
+                        GamePanel.BLOCK_SIZE, GamePanel.BLOCK_SIZE, true);
             }
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-
-    public void drawBackground(java.awt.Graphics g, Player player) {
+    /**
+     * Draws the repeating base map over the visible area.
+     * The graphics must already be translated by the camera; the clip (or the camera
+     * viewport if there is none) decides which sections are drawn.
+     */
+    public void drawBackground(Graphics g) {
         if (baseMap == null || baseWidth == 0 || baseHeight == 0) return;
 
-        int px = player.getX();
-        int py = player.getY();
+        Rectangle view = g.getClipBounds();
+        if (view == null) {
+            view = new Rectangle(GameLogic.cameraX, GameLogic.cameraY, GamePanel.PANEL_WIDTH, GamePanel.PANEL_HEIGHT);
+        }
 
         int chunkPixelW = baseWidth * GamePanel.BLOCK_SIZE;
         int chunkPixelH = baseHeight * GamePanel.BLOCK_SIZE;
+        int sectionPixels = SECTION_TILES * GamePanel.BLOCK_SIZE;
 
-        int playerChunkX = (int) Math.floor(px / (double) chunkPixelW);
-        int playerChunkY = (int) Math.floor(py / (double) chunkPixelH);
+        int firstChunkX = Math.floorDiv(view.x, chunkPixelW);
+        int firstChunkY = Math.floorDiv(view.y, chunkPixelH);
+        int lastChunkX = Math.floorDiv(view.x + view.width - 1, chunkPixelW);
+        int lastChunkY = Math.floorDiv(view.y + view.height - 1, chunkPixelH);
 
-        for (int cy = playerChunkY - 1; cy <= playerChunkY + 1; cy++) {
-            for (int cx = playerChunkX - 1; cx <= playerChunkX + 1; cx++) {
+        for (int cy = firstChunkY; cy <= lastChunkY; cy++) {
+            for (int cx = firstChunkX; cx <= lastChunkX; cx++) {
                 int chunkOffsetX = cx * chunkPixelW;
                 int chunkOffsetY = cy * chunkPixelH;
 
-                for (int ty = 0; ty < baseHeight; ty++) {
-                    for (int tx = 0; tx < baseWidth; tx++) {
-                        int blockType = baseMap[ty][tx];
-                        Image blockImage = blockImages[blockType];
-                        int worldX = chunkOffsetX + tx * GamePanel.BLOCK_SIZE;
-                        int worldY = chunkOffsetY + ty * GamePanel.BLOCK_SIZE;
-                        g.drawImage(blockImage, worldX, worldY, GamePanel.BLOCK_SIZE, GamePanel.BLOCK_SIZE, null);
+                int firstSectionX = Math.max(0, (view.x - chunkOffsetX) / sectionPixels);
+                int firstSectionY = Math.max(0, (view.y - chunkOffsetY) / sectionPixels);
+                int lastSectionX = Math.min(sectionCols - 1, (view.x + view.width - 1 - chunkOffsetX) / sectionPixels);
+                int lastSectionY = Math.min(sectionRows - 1, (view.y + view.height - 1 - chunkOffsetY) / sectionPixels);
+
+                for (int sy = firstSectionY; sy <= lastSectionY; sy++) {
+                    for (int sx = firstSectionX; sx <= lastSectionX; sx++) {
+                        g.drawImage(getSection(sx, sy),
+                                chunkOffsetX + sx * sectionPixels,
+                                chunkOffsetY + sy * sectionPixels, null);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Returns the pre-rendered image of one section of the base map, composing it on first use.
+     */
+    private Image getSection(int sectionX, int sectionY) {
+        int index = sectionY * sectionCols + sectionX;
+        Image section = sectionCache[index];
+        if (section != null) return section;
+
+        int firstTileX = sectionX * SECTION_TILES;
+        int firstTileY = sectionY * SECTION_TILES;
+        int tilesW = Math.min(SECTION_TILES, baseWidth - firstTileX);
+        int tilesH = Math.min(SECTION_TILES, baseHeight - firstTileY);
+
+        BufferedImage image = TextureCache.createCompatibleImage(tilesW * GamePanel.BLOCK_SIZE, tilesH * GamePanel.BLOCK_SIZE);
+        Graphics g = image.getGraphics();
+        for (int ty = 0; ty < tilesH; ty++) {
+            for (int tx = 0; tx < tilesW; tx++) {
+                Image blockImage = blockImages[baseMap[firstTileY + ty][firstTileX + tx]];
+                if (blockImage != null) {
+                    g.drawImage(blockImage, tx * GamePanel.BLOCK_SIZE, ty * GamePanel.BLOCK_SIZE, null);
+                }
+            }
+        }
+        g.dispose();
+
+        sectionCache[index] = image;
+        return image;
+    }
+
     public int getBaseWidth() { return baseWidth; }
     public int getBaseHeight() { return baseHeight; }
 }
@@ -0,0 +1,207 @@
+package Logic;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, allocation-free A* search over the wall tile grid.
+ * Searches are confined to a square window centred on the start tile. All per-node
+ * state lives in preallocated arrays indexed by window cell; a generation stamp marks
+ * which entries belong to the current search, so nothing is cleared between calls.
+ * The open set is an indexed binary heap supporting decrease-key in O(log n).
+ * An instance is not thread-safe; use one per thread.
+ */
+public class PathFinder {
+    public static final int WINDOW_RADIUS = 40;
+    public static final int MAX_ITERATIONS = 500;
+
+    private static final int WINDOW_SIZE = WINDOW_RADIUS * 2 + 1;
+    private static final int CELL_COUNT = WINDOW_SIZE * WINDOW_SIZE;
+    private static final float DIAGONAL_COST = 1.414f;
+
+    private static final int[] DIR_X = {0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int[] DIR_Y = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final float[] DIR_COST = {1f, 1f, 1f, 1f, DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST, DIAGONAL_COST};
+
+    private final float[] g = new float[CELL_COUNT];
+    private final float[] f = new float[CELL_COUNT];
+    private final int[] parent = new int[CELL_COUNT];
+    private final int[] seenStamp = new int[CELL_COUNT];
+    private final int[] closedStamp = new int[CELL_COUNT];
+    private final int[] heapIndex = new int[CELL_COUNT];
+    private final int[] heap = new int[CELL_COUNT];
+    private int heapSize;
+    private int generation;
+
+    private int originX;
+    private int originY;
+    private int lastIterations;
+
+    /**
+     * Finds a path between two tiles.
+     * The path is written to {@code pathOut} as packed tile coordinates (see {@link #packTile}),
+     * starting with the start tile. If the path is longer than the buffer, only its first
+     * {@code pathOut.length} tiles are written.
+     *
+     * @return Number of tiles written, or 0 if no path was found within the window and iteration budget
+     */
+    public int findPath(int startTileX, int startTileY, int goalTileX, int goalTileY,
+                        WallGrid walls, int[] pathOut) {
+        nextGeneration();
+        originX = startTileX - WINDOW_RADIUS;
+        originY = startTileY - WINDOW_RADIUS;
+        heapSize = 0;
+        lastIterations = 0;
+
+        int goalLocalX = goalTileX - originX;
+        int goalLocalY = goalTileY - originY;
+        if (goalLocalX < 0 || goalLocalY < 0 || goalLocalX >= WINDOW_SIZE || goalLocalY >= WINDOW_SIZE) {
+            return 0;
+        }
+        int goalCell = goalLocalY * WINDOW_SIZE + goalLocalX;
+
+        int startCell = WINDOW_RADIUS * WINDOW_SIZE + WINDOW_RADIUS;
+        open(startCell, -1, 0f, heuristic(WINDOW_RADIUS, WINDOW_RADIUS, goalLocalX, goalLocalY));
+
+        while (heapSize > 0 && lastIterations < MAX_ITERATIONS) {
+            lastIterations++;
+            int current = pop();
+
+            if (current == goalCell) {
+                return writePath(current, pathOut);
+            }
+
+            closedStamp[current] = generation;
+
+            int cx = current % WINDOW_SIZE;
+            int cy = current / WINDOW_SIZE;
+            float currentG = g[current];
+
+            for (int d = 0; d < DIR_X.length; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= WINDOW_SIZE || ny >= WINDOW_SIZE) continue;
+
+                int neighbor = ny * WINDOW_SIZE + nx;
+                if (closedStamp[neighbor] == generation) continue;
+                if (walls.isWallTile(nx + originX, ny + originY)) continue;
+
+                float newG = currentG + DIR_COST[d];
+                if (seenStamp[neighbor] != generation) {
+                    open(neighbor, current, newG, newG + heuristic(nx, ny, goalLocalX, goalLocalY));
+                } else if (newG < g[neighbor]) {
+                    float h = f[neighbor] - g[neighbor];
+                    g[neighbor] = newG;
+                    f[neighbor] = newG + h;
+                    parent[neighbor] = current;
+                    siftUp(heapIndex[neighbor]);
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return Number of nodes expanded by the most recent search
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    public static int packTile(int tileX, int tileY) {
+        return (tileX << 16) | (tileY & 0xffff);
+    }
+
+    public static int unpackTileX(int packed) {
+        return packed >> 16;
+    }
+
+    public static int unpackTileY(int packed) {
+        return (short) packed;
+    }
+
+    private int writePath(int goalCell, int[] pathOut) {
+        int length = 0;
+        for (int cell = goalCell; cell >= 0; cell = parent[cell]) {
+            length++;
+        }
+
+        int index = length - 1;
+        for (int cell = goalCell; cell >= 0; cell = parent[cell], index--) {
+            if (index < pathOut.length) {
+                pathOut[index] = packTile(cell % WINDOW_SIZE + originX, cell / WINDOW_SIZE + originY);
+            }
+        }
+        return Math.min(length, pathOut.length);
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    private static float heuristic(int x1, int y1, int x2, int y2) {
+        int dx = Math.abs(x1 - x2);
+        int dy = Math.abs(y1 - y2);
+        return Math.max(dx, dy) + (DIAGONAL_COST - 1f) * Math.min(dx, dy);
+    }
+
+    private void open(int cell, int parentCell, float cost, float estimate) {
+        seenStamp[cell] = generation;
+        g[cell] = cost;
+        f[cell] = estimate;
+        parent[cell] = parentCell;
+        heap[heapSize] = cell;
+        heapIndex[cell] = heapSize;
+        heapSize++;
+        siftUp(heapSize - 1);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int index) {
+        int cell = heap[index];
+        float key = f[cell];
+        while (index > 0) {
+            int parentIndex = (index - 1) >> 1;
+            int parentCell = heap[parentIndex];
+            if (f[parentCell] <= key) break;
+            heap[index] = parentCell;
+            heapIndex[parentCell] = index;
+            index = parentIndex;
+        }
+        heap[index] = cell;
+        heapIndex[cell] = index;
+    }
+
+    private void siftDown(int index) {
+        int cell = heap[index];
+        float key = f[cell];
+        int half = heapSize >> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < heapSize && f[heap[right]] < f[heap[child]]) {
+                child = right;
+            }
+            if (key <= f[heap[child]]) break;
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = cell;
+        heapIndex[cell] = index;
+    }
+}
@@ -2,140 +2,77 @@ package Logic;
 
 import UI.GamePanel;
 import java.awt.*;
-import java.util.*;
-import java.util.List;
 
 public class PathFinding {
     private static final int GRID_SIZE = GamePanel.BLOCK_SIZE;
     private static final int MAX_PATH_LENGTH = 30;
+    /** Half width of the corridor an enemy needs to walk straight at its target. */
+    public static final int BODY_CLEARANCE = 15;
 
+    private static final ThreadLocal<PathFinder> FINDER = ThreadLocal.withInitial(PathFinder::new);
+    private static final ThreadLocal<int[]> PATH_BUFFER = ThreadLocal.withInitial(() -> new int[MAX_PATH_LENGTH]);
+    private static final ThreadLocal<HierarchicalPathFinder> HIERARCHICAL =
+            ThreadLocal.withInitial(HierarchicalPathFinder::new);
+    private static final ThreadLocal<int[]> WAYPOINT = ThreadLocal.withInitial(() -> new int[2]);
 
-    public static boolean hasClearPath(int startX, int startY, int goalX, int goalY, WallManager wallManager) {
-        int steps = (int) (Math.hypot(goalX - startX, goalY - startY) / (GRID_SIZE / 2));
-        if (steps == 0) return true;
-
-        double dx = (goalX - startX) / (double) steps;
-        double dy = (goalY - startY) / (double) steps;
-
-        double currentX = startX;
-        double currentY = startY;
-
-        for (int i = 0; i < steps; i++) {
-            currentX += dx;
-            currentY += dy;
-            if (wallManager.isWall((int)currentX, (int)currentY)) {
-                return false;
-            }
-            if (wallManager.isWall((int)currentX + 15, (int)currentY + 15)) return false;
-            if (wallManager.isWall((int)currentX - 15, (int)currentY - 15)) return false;
-        }
 
-        return true;
+    /**
+     * Checks whether an enemy body can walk straight from the start to the goal.
+     * Corridors found clear for a whole tile pair are cached until the walls change.
+     */
+    public static boolean hasClearPath(int startX, int startY, int goalX, int goalY, WallManager wallManager) {
+        return wallManager.getClearPathCache().isClear(startX, startY, goalX, goalY, wallManager);
     }
 
     public static Point findNextStep(int startX, int startY, int goalX, int goalY, WallManager wallManager) {
-        int gridStartX = startX / GRID_SIZE;
-        int gridStartY = startY / GRID_SIZE;
-        int gridGoalX = goalX / GRID_SIZE;
-        int gridGoalY = goalY / GRID_SIZE;
-
-        List<Node> path = findPath(gridStartX, gridStartY, gridGoalX, gridGoalY, wallManager);
-
-        if (path != null && path.size() > 1) {
-            Node nextNode = path.get(1);
-            return new Point(nextNode.x * GRID_SIZE + GRID_SIZE/2, nextNode.y * GRID_SIZE + GRID_SIZE/2);
-        }
-
-        return new Point(goalX, goalY);
+        return findNextStep(startX, startY, goalX, goalY, wallManager, new Point());
     }
 
-    private static List<Node> findPath(int startX, int startY, int goalX, int goalY, WallManager wallManager) {
-        PriorityQueue<Node> openSet = new PriorityQueue<>();
-        Set<String> closedSet = new HashSet<>();
-        Map<String, Node> allNodes = new HashMap<>();
-
-        Node startNode = new Node(startX, startY, null, 0, heuristic(startX, startY, goalX, goalY));
-        openSet.add(startNode);
-        allNodes.put(startNode.key(), startNode);
-
-        int iterations = 0;
-        int maxIterations = 500;
-
-        while (!openSet.isEmpty() && iterations < maxIterations) {
-            iterations++;
-            Node current = openSet.poll();
-
-            if (current.x == goalX && current.y == goalY) {
-                return reconstructPath(current);
-            }
-
-            closedSet.add(current.key());
-
-            int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}, {-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
-
-            for (int[] dir : directions) {
-                int newX = current.x + dir[0];
-                int newY = current.y + dir[1];
-                String neighborKey = newX + "," + newY;
-
-                if (closedSet.contains(neighborKey)) continue;
-
-                int worldX = newX * GRID_SIZE + GRID_SIZE / 2;
-                int worldY = newY * GRID_SIZE + GRID_SIZE / 2;
-
-                if (wallManager.isWall(worldX, worldY)) continue;
-
-                double moveCost = (Math.abs(dir[0]) + Math.abs(dir[1]) == 2) ? 1.414 : 1.0;
-                double newG = current.g + moveCost;
-
-                Node neighbor = allNodes.get(neighborKey);
-                if (neighbor == null) {
-                    neighbor = new Node(newX, newY, current, newG, heuristic(newX, newY, goalX, goalY));
-                    allNodes.put(neighborKey, neighbor);
-                    openSet.add(neighbor);
-                } else if (newG < neighbor.g) {
-                    neighbor.g = newG;
-                    neighbor.parent = current;
-                    neighbor.f = neighbor.g + neighbor.h;
-                    openSet.remove(neighbor);
-                    openSet.add(neighbor);
-                }
-            }
+    /**
+     * Finds the centre of the next tile on the path towards the goal, writing it into {@code out}.
+     * Goals within one cluster of the start are searched directly on the tile grid. Further
+     * goals, and nearby ones the direct search cannot reach, are routed over the
+     * {@link HierarchicalPathFinder} portal graph first and only the leg to the next portal
+     * is searched tile by tile. Falls back to the goal itself when no path is found.
+     *
+     * @return The {@code out} point
+     */
+    public static Point findNextStep(int startX, int startY, int goalX, int goalY, WallGrid walls, Point out) {
+        int startTileX = WallManager.toTile(startX);
+        int startTileY = WallManager.toTile(startY);
+        int goalTileX = WallManager.toTile(goalX);
+        int goalTileY = WallManager.toTile(goalY);
+
+        int distance = Math.max(Math.abs(goalTileX - startTileX), Math.abs(goalTileY - startTileY));
+        if (distance == 0) {
+            out.x = goalX;
+            out.y = goalY;
+            return out;
         }
-        return null;
-    }
-
-    private static double heuristic(int x1, int y1, int x2, int y2) {
-        return Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
-    }
-
-    private static List<Node> reconstructPath(Node goalNode) {
-        List<Node> path = new ArrayList<>();
-        Node current = goalNode;
-        while (current != null) {
-            path.add(0, current);
-            current = current.parent;
+        if (distance <= HierarchicalPathFinder.CLUSTER_TILES
+                && nextTile(startTileX, startTileY, goalTileX, goalTileY, walls, out)) {
+            return out;
         }
-        return path;
-    }
 
-    private static class Node implements Comparable<Node> {
-        int x, y;
-        Node parent;
-        double g, h, f;
-
-        public Node(int x, int y, Node parent, double g, double h) {
-            this.x = x;
-            this.y = y;
-            this.parent = parent;
-            this.g = g;
-            this.h = h;
-            this.f = g + h;
+        int[] waypoint = WAYPOINT.get();
+        if (HIERARCHICAL.get().findFirstWaypoint(startTileX, startTileY, goalTileX, goalTileY, walls, waypoint)
+                && nextTile(startTileX, startTileY, waypoint[0], waypoint[1], walls, out)) {
+            return out;
         }
 
-        public String key() { return x + "," + y; }
+        out.x = goalX;
+        out.y = goalY;
+        return out;
+    }
+
+    private static boolean nextTile(int startTileX, int startTileY, int goalTileX, int goalTileY,
+                                    WallGrid walls, Point out) {
+        int[] path = PATH_BUFFER.get();
+        int length = FINDER.get().findPath(startTileX, startTileY, goalTileX, goalTileY, walls, path);
+        if (length <= 1) return false;
 
-        @Override
-        public int compareTo(Node other) { return Double.compare(this.f, other.f); }
+        out.x = PathFinder.unpackTileX(path[1]) * GRID_SIZE + GRID_SIZE / 2;
+        out.y = PathFinder.unpackTileY(path[1]) * GRID_SIZE + GRID_SIZE / 2;
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,267 @@
+package Logic;
+
+import Enemies.Enemy;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Spreads A* searches over ticks.
+ * Enemies that need a new path submit a request instead of searching inline. Each tick
+ * {@link #process} answers the most urgent requests (closest to the player first) until
+ * its time budget is spent; the rest wait for the next tick while their enemies keep
+ * following the previous step. Re-submitting a pending request only updates it, so a
+ * slow queue never grows beyond one entry per enemy, and requests whose enemy has
+ * left the store by the time they are reached are dropped unanswered.
+ *
+ * <p>With a {@link PathWorkerPool} the searches run on background threads against a
+ * snapshot of the walls instead, and their answers are applied at the start of the
+ * next tick.</p>
+ */
+public class PathRequestQueue {
+    /** Time the queue may spend searching per tick. */
+    private static final long BUDGET_NANOS = 1_000_000L;
+    /** Searches always answered per tick, even over budget, so the queue keeps moving. */
+    private static final int MIN_REQUESTS_PER_TICK = 1;
+
+    /**
+     * A reusable path request owned by one enemy.
+     */
+    public static final class Request {
+        private final Enemy owner;
+        private int startX, startY, goalX, goalY;
+        private long priority;
+        private int heapIndex = -1;
+        private boolean inFlight;
+        private boolean resubmit;
+
+        private final Point result = new Point();
+        private boolean resultReady;
+
+        public Request(Enemy owner) {
+            this.owner = owner;
+        }
+
+        public boolean isPending() {
+            return heapIndex >= 0 || inFlight;
+        }
+
+        /**
+         * Copies the newest answer into {@code out} if one arrived since the last call.
+         *
+         * @return True if {@code out} was updated
+         */
+        public boolean takeResult(Point out) {
+            if (!resultReady) return false;
+            out.setLocation(result);
+            resultReady = false;
+            return true;
+        }
+    }
+
+    private Request[] heap = new Request[64];
+    private int size;
+    private final PathWorkerPool workers;
+    private int epoch;
+
+    /**
+     * Creates a queue that searches on the simulation thread within its time budget.
+     */
+    public PathRequestQueue() {
+        this(null);
+    }
+
+    /**
+     * @param workers Pool to run searches on, or null to search on the simulation thread
+     */
+    public PathRequestQueue(PathWorkerPool workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Queues or updates a request. The request keeps its place if it is already queued
+     * and is moved according to its new priority.
+     */
+    public void submit(Request request, int startX, int startY, int goalX, int goalY) {
+        request.startX = startX;
+        request.startY = startY;
+        request.goalX = goalX;
+        request.goalY = goalY;
+
+        long dx = goalX - startX;
+        long dy = goalY - startY;
+        long priority = dx * dx + dy * dy;
+
+        if (request.inFlight) {
+            // Queued again with these coordinates once the running search is applied.
+            request.priority = priority;
+            request.resubmit = true;
+            return;
+        }
+
+        if (request.heapIndex >= 0) {
+            long previous = request.priority;
+            request.priority = priority;
+            if (priority < previous) {
+                siftUp(request.heapIndex);
+            } else {
+                siftDown(request.heapIndex);
+            }
+            return;
+        }
+
+        request.priority = priority;
+        push(request);
+    }
+
+    /**
+     * Answers pending requests in priority order until the budget is used up or, with
+     * a worker pool, applies the answers finished since the last tick and hands the most
+     * urgent requests to the workers.
+     *
+     * @return Number of searches run or dispatched
+     */
+    public int process(WallManager wallManager) {
+        if (workers != null) {
+            applyCompleted();
+            return dispatch(wallManager);
+        }
+
+        long deadline = System.nanoTime() + BUDGET_NANOS;
+        int searched = 0;
+
+        while (size > 0) {
+            if (searched >= MIN_REQUESTS_PER_TICK && System.nanoTime() >= deadline) {
+                break;
+            }
+
+            Request request = poll();
+            if (request.owner.getStoreHandle() < 0) continue;
+
+            PathFinding.findNextStep(request.startX, request.startY, request.goalX, request.goalY,
+                    wallManager, request.result);
+            request.resultReady = true;
+            searched++;
+        }
+        return searched;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+        // Answers still running belong to the old epoch and are discarded on arrival.
+        epoch++;
+    }
+
+    /**
+     * Stops the worker pool, if any. The queue keeps working synchronously afterwards
+     * only if it was created without one.
+     */
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void applyCompleted() {
+        PathWorkerPool.Result result;
+        while ((result = workers.poll()) != null) {
+            Request request = result.request;
+            if (result.epoch != epoch) {
+                request.inFlight = false;
+                request.resubmit = false;
+                continue;
+            }
+
+            request.inFlight = false;
+            request.result.setLocation(result.stepX, result.stepY);
+            request.resultReady = true;
+
+            if (request.resubmit) {
+                request.resubmit = false;
+                push(request);
+            }
+        }
+    }
+
+    private int dispatch(WallManager wallManager) {
+        if (size == 0) return 0;
+
+        WallSnapshot snapshot = wallManager.snapshot();
+        int dispatched = 0;
+        while (size > 0 && workers.hasCapacity()) {
+            Request request = poll();
+            if (request.owner.getStoreHandle() < 0) continue;
+
+            request.inFlight = true;
+            if (!workers.submit(request, epoch, request.startX, request.startY,
+                    request.goalX, request.goalY, snapshot)) {
+                request.inFlight = false;
+                break;
+            }
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    private void push(Request request) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = request;
+        request.heapIndex = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    private Request poll() {
+        Request top = heap[0];
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            heap[0].heapIndex = 0;
+            siftDown(0);
+        }
+        heap[size] = null;
+        top.heapIndex = -1;
+        return top;
+    }
+
+    private void siftUp(int index) {
+        Request request = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].priority <= request.priority) break;
+            heap[index] = heap[parent];
+            heap[index].heapIndex = index;
+            index = parent;
+        }
+        heap[index] = request;
+        request.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        Request request = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].priority < heap[child].priority) {
+                child = right;
+            }
+            if (request.priority <= heap[child].priority) break;
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = request;
+        request.heapIndex = index;
+    }
+}
@@ -0,0 +1,101 @@
+package Logic;
+
+import java.awt.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background threads running A* searches for a {@link PathRequestQueue}.
+ * Each search runs against an immutable {@link WallSnapshot}, so workers never touch
+ * live game state. Finished searches are collected in a lock-free queue that the
+ * simulation thread drains on its next tick.
+ */
+public class PathWorkerPool {
+    /**
+     * Outcome of one search. Created on a worker thread, consumed on the simulation thread.
+     */
+    static final class Result {
+        final PathRequestQueue.Request request;
+        final int epoch;
+        final int stepX;
+        final int stepY;
+
+        Result(PathRequestQueue.Request request, int epoch, int stepX, int stepY) {
+            this.request = request;
+            this.epoch = epoch;
+            this.stepX = stepX;
+            this.stepY = stepY;
+        }
+    }
+
+    /** Searches each worker may have queued, bounding how stale a dispatched request gets. */
+    private static final int QUEUED_PER_WORKER = 8;
+
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<Result> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+
+    /**
+     * @param threads Number of worker threads
+     */
+    public PathWorkerPool(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "PathWorker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxInFlight = threads * QUEUED_PER_WORKER;
+    }
+
+    /**
+     * @return One worker per spare core, between 1 and 4
+     */
+    public static int defaultThreadCount() {
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    boolean hasCapacity() {
+        return inFlight.get() < maxInFlight;
+    }
+
+    /**
+     * Starts a search in the background.
+     *
+     * @return False if the pool has been shut down
+     */
+    boolean submit(PathRequestQueue.Request request, int epoch, int startX, int startY,
+                   int goalX, int goalY, WallSnapshot walls) {
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    Point step = PathFinding.findNextStep(startX, startY, goalX, goalY, walls, new Point());
+                    completed.add(new Result(request, epoch, step.x, step.y));
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                    completed.add(new Result(request, epoch, goalX, goalY));
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+    }
+
+    Result poll() {
+        return completed.poll();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        completed.clear();
+    }
+}
@@ -0,0 +1,88 @@
+package Logic;
+
+import Core.Game;
+import Enemies.Enemy;
+import UI.GamePanel;
+
+/**
+ * Level-of-detail tiers for enemy movement.
+ * Enemies on screen move every tick with full pathfinding and animation. Enemies just off
+ * screen move every few ticks, covering the skipped distance at once and without
+ * animation. Enemies far away take coarse flow-field steps even less often until they
+ * come back into range or are culled. Updates within a tier are staggered by the
+ * enemy's store handle so the work is spread evenly over ticks.
+ */
+public final class SimulationLod {
+    public enum Tier {
+        FULL(1),
+        REDUCED(3),
+        COARSE(8);
+
+        private final int interval;
+
+        Tier(int interval) {
+            this.interval = interval;
+        }
+
+        /**
+         * @return Number of ticks between movement updates
+         */
+        public int getInterval() {
+            return interval;
+        }
+    }
+
+    /** Distance beyond the view that still counts as on screen. */
+    private static final int VIEW_MARGIN = Game.scale(100);
+    /** Distance beyond the view up to which enemies keep full pathfinding. */
+    private static final int REDUCED_RANGE = Game.scale(600);
+
+    private static volatile boolean enabled = true;
+
+    private SimulationLod() {
+    }
+
+    /**
+     * Picks the tier for an enemy from its distance to the visible area.
+     * Bosses and slimes have scripted movement and always run at full detail.
+     */
+    public static Tier classify(Enemy enemy) {
+        if (!enabled) return Tier.FULL;
+
+        Enemy.Type type = enemy.getType();
+        if (type == Enemy.Type.SLIME || type == Enemy.Type.DARK_MAGE_BOSS || type == Enemy.Type.BUNNY_BOSS) {
+            return Tier.FULL;
+        }
+
+        int left = GameLogic.cameraX;
+        int top = GameLogic.cameraY;
+        int right = left + GamePanel.PANEL_WIDTH;
+        int bottom = top + GamePanel.PANEL_HEIGHT;
+
+        int x = enemy.getX();
+        int y = enemy.getY();
+        int dx = Math.max(0, Math.max(left - (x + enemy.getWidth()), x - right));
+        int dy = Math.max(0, Math.max(top - (y + enemy.getHeight()), y - bottom));
+        int outside = Math.max(dx, dy);
+
+        if (outside <= VIEW_MARGIN) return Tier.FULL;
+        if (outside <= REDUCED_RANGE) return Tier.REDUCED;
+        return Tier.COARSE;
+    }
+
+    /**
+     * @return True if an enemy in the given tier moves on this tick
+     */
+    public static boolean isDue(Tier tier, Enemy enemy, long tick) {
+        int interval = tier.getInterval();
+        return interval == 1 || (tick + EnemyStore.idOf(enemy.getStoreHandle())) % interval == 0;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
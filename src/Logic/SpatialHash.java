@@ -0,0 +1,290 @@
+package Logic;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broad-phase over small non-negative integer ids.
+ * An id whose bounds fit in one cell is stored once, in the cell containing the centre of
+ * its bounds, and queries are widened by the largest such half-extent (at most half a
+ * cell) so it is still reported. Larger ids, such as bosses, are stored in every cell
+ * their bounds overlap instead, so they never widen the queries for everyone else.
+ * Buckets live in flat primitive arrays keyed by packed cell coordinates and are reused
+ * between rebuilds.
+ *
+ * <p>Ids index internal arrays, so they should be dense, e.g. positions in a list.
+ * An id can be moved with {@link #update} without rebuilding the grid.</p>
+ */
+public class SpatialHash {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int NONE = -1;
+
+    private final int cellSize;
+
+    private long[] keys;
+    private int[] heads;
+    private int[] usedSlots;
+    private int usedCount;
+
+    // Entries: one per id and cell, in doubly linked bucket lists.
+    private int[] entryId;
+    private int[] entryNext;
+    private int[] entryPrev;
+    private int[] entrySlot;
+    /** Next entry of the same id, or the next free entry. */
+    private int[] entrySibling;
+    private int entryCount;
+    private int freeEntry = NONE;
+
+    private int[] firstEntryOfId = new int[64];
+    private int[] seenStamp = new int[64];
+    private int idLimit;
+    private int size;
+    private int stamp;
+
+    private int maxHalfExtent;
+    private int[] results = new int[64];
+    private int resultCount;
+
+    public SpatialHash(int cellSize) {
+        this.cellSize = cellSize;
+        this.keys = new long[256];
+        this.heads = new int[256];
+        this.usedSlots = new int[256];
+        Arrays.fill(keys, EMPTY);
+        this.entryId = new int[256];
+        this.entryNext = new int[256];
+        this.entryPrev = new int[256];
+        this.entrySlot = new int[256];
+        this.entrySibling = new int[256];
+        Arrays.fill(firstEntryOfId, NONE);
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Removes every entry while keeping the allocated storage.
+     */
+    public void clear() {
+        for (int i = 0; i < usedCount; i++) {
+            keys[usedSlots[i]] = EMPTY;
+        }
+        usedCount = 0;
+        entryCount = 0;
+        freeEntry = NONE;
+        Arrays.fill(firstEntryOfId, 0, idLimit, NONE);
+        idLimit = 0;
+        size = 0;
+        maxHalfExtent = 0;
+    }
+
+    /**
+     * Inserts an id with the given axis-aligned bounds. The id must not be in the grid yet.
+     */
+    public void insert(int id, int x, int y, int width, int height) {
+        if (id >= firstEntryOfId.length) {
+            int capacity = Math.max(id + 1, firstEntryOfId.length * 2);
+            int oldLength = firstEntryOfId.length;
+            firstEntryOfId = Arrays.copyOf(firstEntryOfId, capacity);
+            Arrays.fill(firstEntryOfId, oldLength, capacity, NONE);
+            seenStamp = Arrays.copyOf(seenStamp, capacity);
+        }
+        idLimit = Math.max(idLimit, id + 1);
+        size++;
+        link(id, x, y, width, height);
+    }
+
+    /**
+     * Moves an id that is already in the grid to new bounds.
+     */
+    public void update(int id, int x, int y, int width, int height) {
+        unlink(id);
+        link(id, x, y, width, height);
+    }
+
+    /**
+     * Collects the ids whose bounds may overlap the given rectangle, each at most once.
+     * Results are valid until the next call to query and are read with {@link #resultAt(int)}.
+     *
+     * @return Number of candidate ids
+     */
+    public int query(int minX, int minY, int maxX, int maxY) {
+        resultCount = 0;
+        if (size == 0) return 0;
+
+        if (++stamp == 0) {
+            Arrays.fill(seenStamp, 0);
+            stamp = 1;
+        }
+
+        int cellMinX = Math.floorDiv(minX - maxHalfExtent, cellSize);
+        int cellMinY = Math.floorDiv(minY - maxHalfExtent, cellSize);
+        int cellMaxX = Math.floorDiv(maxX + maxHalfExtent, cellSize);
+        int cellMaxY = Math.floorDiv(maxY + maxHalfExtent, cellSize);
+
+        for (int cy = cellMinY; cy <= cellMaxY; cy++) {
+            for (int cx = cellMinX; cx <= cellMaxX; cx++) {
+                int slot = findSlot(pack(cx, cy));
+                if (slot < 0) continue;
+                for (int entry = heads[slot]; entry != NONE; entry = entryNext[entry]) {
+                    int id = entryId[entry];
+                    if (seenStamp[id] == stamp) continue;
+                    seenStamp[id] = stamp;
+                    if (resultCount == results.length) {
+                        results = Arrays.copyOf(results, resultCount * 2);
+                    }
+                    results[resultCount++] = id;
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    public int resultAt(int index) {
+        return results[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static long pack(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private void link(int id, int x, int y, int width, int height) {
+        if (width <= cellSize && height <= cellSize) {
+            int halfExtent = (Math.max(width, height) + 1) / 2;
+            if (halfExtent > maxHalfExtent) {
+                maxHalfExtent = halfExtent;
+            }
+            addEntry(id, Math.floorDiv(x + width / 2, cellSize), Math.floorDiv(y + height / 2, cellSize));
+            return;
+        }
+
+        int cellMaxX = Math.floorDiv(x + width, cellSize);
+        int cellMaxY = Math.floorDiv(y + height, cellSize);
+        for (int cy = Math.floorDiv(y, cellSize); cy <= cellMaxY; cy++) {
+            for (int cx = Math.floorDiv(x, cellSize); cx <= cellMaxX; cx++) {
+                addEntry(id, cx, cy);
+            }
+        }
+    }
+
+    private void addEntry(int id, int cellX, int cellY) {
+        int slot = findOrCreateSlot(pack(cellX, cellY));
+        int entry = allocateEntry();
+
+        entryId[entry] = id;
+        entrySlot[entry] = slot;
+        entryPrev[entry] = NONE;
+        entryNext[entry] = heads[slot];
+        if (heads[slot] != NONE) {
+            entryPrev[heads[slot]] = entry;
+        }
+        heads[slot] = entry;
+
+        entrySibling[entry] = firstEntryOfId[id];
+        firstEntryOfId[id] = entry;
+    }
+
+    private void unlink(int id) {
+        int entry = firstEntryOfId[id];
+        while (entry != NONE) {
+            int sibling = entrySibling[entry];
+            int prev = entryPrev[entry];
+            int next = entryNext[entry];
+            if (prev != NONE) {
+                entryNext[prev] = next;
+            } else {
+                heads[entrySlot[entry]] = next;
+            }
+            if (next != NONE) {
+                entryPrev[next] = prev;
+            }
+
+            entrySibling[entry] = freeEntry;
+            freeEntry = entry;
+            entry = sibling;
+        }
+        firstEntryOfId[id] = NONE;
+    }
+
+    private int allocateEntry() {
+        if (freeEntry != NONE) {
+            int entry = freeEntry;
+            freeEntry = entrySibling[entry];
+            return entry;
+        }
+        if (entryCount == entryId.length) {
+            int capacity = entryCount * 2;
+            entryId = Arrays.copyOf(entryId, capacity);
+            entryNext = Arrays.copyOf(entryNext, capacity);
+            entryPrev = Arrays.copyOf(entryPrev, capacity);
+            entrySlot = Arrays.copyOf(entrySlot, capacity);
+            entrySibling = Arrays.copyOf(entrySibling, capacity);
+        }
+        return entryCount++;
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findOrCreateSlot(long key) {
+        if ((usedCount + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        heads[slot] = NONE;
+        usedSlots[usedCount++] = slot;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldHeads = heads;
+        int oldUsed = usedCount;
+        int[] oldSlots = usedSlots;
+
+        keys = new long[oldKeys.length * 2];
+        heads = new int[oldKeys.length * 2];
+        usedSlots = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        usedCount = 0;
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldUsed; i++) {
+            int oldSlot = oldSlots[i];
+            long key = oldKeys[oldSlot];
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            heads[slot] = oldHeads[oldSlot];
+            usedSlots[usedCount++] = slot;
+            for (int entry = heads[slot]; entry != NONE; entry = entryNext[entry]) {
+                entrySlot[entry] = slot;
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,52 @@
+package Logic;
+
+import Enemies.Enemy;
+
+import java.util.ArrayDeque;
+
+/**
+ * Hands newly spawned enemies to the simulation. Spawns are queued here and moved into
+ * the {@link EnemyStore} once per tick, a limited number at a time, so a large wave is
+ * spread over several ticks instead of landing in one.
+ *
+ * <p>The queue is not thread-safe. Every producer runs on the simulation thread or
+ * holds the game loop's state lock, the same as for the store itself.</p>
+ */
+public class SpawnQueue {
+    private final ArrayDeque<Enemy> queued = new ArrayDeque<>();
+
+    /**
+     * Queues an enemy for the next tick.
+     */
+    public void offer(Enemy enemy) {
+        queued.addLast(enemy);
+    }
+
+    /**
+     * Moves up to {@code budget} queued enemies into the store, oldest first.
+     * Anything beyond the budget stays queued for the following ticks.
+     *
+     * @return Number of enemies added
+     */
+    public int drainTo(EnemyStore store, int budget) {
+        int drained = 0;
+        while (drained < budget) {
+            Enemy enemy = queued.pollFirst();
+            if (enemy == null) break;
+            store.add(enemy);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Discards everything queued so far.
+     */
+    public void clear() {
+        queued.clear();
+    }
+
+    public boolean isEmpty() {
+        return queued.isEmpty();
+    }
+}
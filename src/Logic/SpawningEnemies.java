@@ -10,10 +10,8 @@ import UI.GamePanel;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Random;
 
 public class SpawningEnemies {
 
@@ -21,17 +19,52 @@ public class SpawningEnemies {
     private static final int MAX_ENEMY_DISTANCE = Game.scale(1800);
     private static final int MIN_DISTANCE_FROM_PLAYER = Game.scale(200);
 
-    private GamePanel gamePanel;
-    private CopyOnWriteArrayList<Enemy> enemies;
-    private ExecutorService spawnExecutor;
-    private volatile boolean stopSpawning = false;
-    private volatile boolean pauseSpawning = false;
+    private static final double TUTORIAL_SPAWNS_PER_SECOND = 1.0 / 3.0;
+
+    /**
+     * One enemy type being spawned at a fixed rate. Credits accumulate with simulated
+     * time and one enemy is spawned per whole credit, so rates that do not divide a
+     * tick evenly still average out exactly.
+     */
+    private static final class SpawnStream {
+        final Enemy.Type type;
+        final int hp;
+        final double spawnsPerSecond;
+        final int limit;
+        double credit = 1.0;
+        int remaining;
+
+        /**
+         * @param limit Total number of enemies to spawn, or -1 for no limit
+         */
+        SpawnStream(Enemy.Type type, int hp, double spawnsPerSecond, int limit) {
+            this.type = type;
+            this.hp = hp;
+            this.spawnsPerSecond = spawnsPerSecond;
+            this.limit = limit;
+            this.remaining = limit;
+        }
+    }
+
+    private EnemyStore enemies;
+    private SpawnQueue spawnQueue;
+    private final List<SpawnStream> streams = new ArrayList<>();
+    private boolean pauseSpawning = false;
     private Player playerReference;
+    private final WallManager wallManager;
+    private final Random random = new Random();
+    private final Point spawnPoint = new Point();
+    private final Point fallbackPoint = new Point();
 
-    public SpawningEnemies(GamePanel gamePanel, CopyOnWriteArrayList<Enemy> enemies) {
-        this.gamePanel = gamePanel;
+    /**
+     * @param enemies Live enemies, used for culling
+     * @param spawnQueue Receives every spawned enemy; the game tick moves them into the store
+     * @param wallManager Used to reject spawn points inside walls, may be null
+     */
+    public SpawningEnemies(EnemyStore enemies, SpawnQueue spawnQueue, WallManager wallManager) {
         this.enemies = enemies;
-        this.spawnExecutor = Executors.newCachedThreadPool();
+        this.spawnQueue = spawnQueue;
+        this.wallManager = wallManager;
     }
 
     public void setPlayerReference(Player player) {
@@ -40,51 +73,72 @@ public class SpawningEnemies {
 
     public void spawnEnemies(int normalPerSecond, int giantPerSecond, int smallPerSecond,
                              int shootingPerSecond, int slimePerSecond) {
-        stopSpawning = false;
         pauseSpawning = false;
 
         if (normalPerSecond > 0) {
-            spawnEnemyType(normalPerSecond, Enemy.Type.NORMAL, 5 * gamePanel.getWaveNumber());
+            spawnEnemyType(normalPerSecond, Enemy.Type.NORMAL, 5 * GameLogic.getWaveNumber());
         }
         if (giantPerSecond > 0) {
-            spawnEnemyType(giantPerSecond, Enemy.Type.GIANT, 15 * gamePanel.getWaveNumber());
+            spawnEnemyType(giantPerSecond, Enemy.Type.GIANT, 15 * GameLogic.getWaveNumber());
         }
         if (smallPerSecond > 0) {
-            spawnEnemyType(smallPerSecond, Enemy.Type.SMALL, 3 * gamePanel.getWaveNumber());
+            spawnEnemyType(smallPerSecond, Enemy.Type.SMALL, 3 * GameLogic.getWaveNumber());
         }
         if (shootingPerSecond > 0) {
-            spawnEnemyType(shootingPerSecond, Enemy.Type.SHOOTING, 4 * gamePanel.getWaveNumber());
+            spawnEnemyType(shootingPerSecond, Enemy.Type.SHOOTING, 4 * GameLogic.getWaveNumber());
         }
         if (slimePerSecond > 0) {
-            spawnEnemyType(slimePerSecond, Enemy.Type.SLIME, 4 * gamePanel.getWaveNumber());
+            spawnEnemyType(slimePerSecond, Enemy.Type.SLIME, 4 * GameLogic.getWaveNumber());
         }
     }
 
     private void spawnEnemyType(int rate, Enemy.Type type, int hp) {
         if (rate <= 0) return;
+        streams.add(new SpawnStream(type, hp, rate, -1));
+    }
 
-        long spawnInterval = 1000 / rate;
-
-        spawnExecutor.execute(() -> {
-            while (!stopSpawning) {
-                if (!pauseSpawning) {
-                    Point spawnPoint = getSpawnPointAwayFromPlayer();
-                    if (spawnPoint != null) {
-                        if (type == Enemy.Type.SLIME) {
-                            enemies.add(new Slime(spawnPoint.x, spawnPoint.y, hp));
-                        } else {
-                            enemies.add(new Enemy(spawnPoint.x, spawnPoint.y, hp, type));
-                        }
-                    }
+    /**
+     * Advances every active spawn stream by one simulation step and queues the
+     * enemies that became due. Called once per tick by the game loop.
+     *
+     * @param stepNanos Simulated time covered by the step
+     */
+    public void update(long stepNanos) {
+        if (pauseSpawning || streams.isEmpty()) return;
+
+        double seconds = stepNanos / 1_000_000_000.0;
+        for (int i = streams.size() - 1; i >= 0; i--) {
+            SpawnStream stream = streams.get(i);
+            stream.credit += stream.spawnsPerSecond * seconds;
+
+            while (stream.credit >= 1.0 && stream.remaining != 0) {
+                Point spawnPoint = getSpawnPointAwayFromPlayer();
+                if (spawnPoint == null) {
+                    // No free cell this tick: keep one pending spawn and retry on the next tick.
+                    stream.credit = Math.min(stream.credit, 1.0);
+                    break;
                 }
+                stream.credit -= 1.0;
 
-                try {
-                    TimeUnit.MILLISECONDS.sleep(spawnInterval);
-                } catch (InterruptedException e) {
-                    return;
+                spawnQueue.offer(createEnemy(stream.type, spawnPoint.x, spawnPoint.y, stream.hp));
+                if (stream.remaining > 0) {
+                    stream.remaining--;
+                    System.out.println("Tutorial: Spawned enemy " + (stream.limit - stream.remaining) + "/" + stream.limit);
                 }
             }
-        });
+
+            if (stream.remaining == 0) {
+                System.out.println("Tutorial spawning complete: " + stream.limit + " enemies spawned");
+                streams.remove(i);
+            }
+        }
+    }
+
+    private Enemy createEnemy(Enemy.Type type, int x, int y, int hp) {
+        if (type == Enemy.Type.SLIME) {
+            return new Slime(x, y, hp);
+        }
+        return new Enemy(x, y, hp, type);
     }
 
     public void pauseSpawning() {
@@ -95,18 +149,12 @@ public class SpawningEnemies {
         pauseSpawning = false;
     }
 
+    /**
+     * Stops every spawn stream immediately.
+     */
     public void stopCurrentSpawn() {
-        stopSpawning = true;
+        streams.clear();
         pauseSpawning = false;
-        spawnExecutor.shutdownNow();
-        try {
-            if (!spawnExecutor.awaitTermination(800, TimeUnit.MILLISECONDS)) {
-                spawnExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            spawnExecutor.shutdownNow();
-        }
-        spawnExecutor = Executors.newCachedThreadPool();
     }
 
     public void spawnDarkMageBoss() {
@@ -116,9 +164,9 @@ public class SpawningEnemies {
             int bossHp = 1000 * GameLogic.getWaveNumber();
 
             DarkMageBoss darkMageBoss = new DarkMageBoss(spawnPoint.x, spawnPoint.y, bossHp);
-            enemies.add(darkMageBoss);
+            spawnQueue.offer(darkMageBoss);
 
-            System.out.println("Dark Mage Boss added! Total enemies: " + enemies.size());
+            System.out.println("Dark Mage Boss queued!");
         } else {
             System.err.println("ERROR: Could not find spawn point for Dark Mage Boss!");
         }
@@ -134,104 +182,98 @@ public class SpawningEnemies {
                     spawnPoint.x + ", " + spawnPoint.y + ")");
 
             BunnyBoss bunnyBoss = new BunnyBoss(spawnPoint.x, spawnPoint.y, bossHp);
-            enemies.add(bunnyBoss);
+            spawnQueue.offer(bunnyBoss);
 
-            System.out.println("Bunny Boss added! Total enemies: " + enemies.size());
+            System.out.println("Bunny Boss queued!");
         } else {
             System.err.println("ERROR: Could not find spawn point for Bunny Boss!");
         }
     }
 
+    /**
+     * Picks a random spawn point in the ring around the camera that is not inside a wall
+     * and not too close to the player. The returned point is reused by the next call.
+     * Failing is silent, since the spawn streams call this every tick and simply retry.
+     *
+     * @return Spawn point, or null if no free cell was found
+     */
     private Point getSpawnPointAwayFromPlayer() {
-        if (playerReference == null) {
-            playerReference = gamePanel.getPlayer();
-        }
-
-        if (playerReference == null) {
-            return getSpawnPointOutsideCamera();
-        }
+        Point fallback = null;
+        long minDistanceSq = (long) MIN_DISTANCE_FROM_PLAYER * MIN_DISTANCE_FROM_PLAYER;
 
         int maxAttempts = 20;
         for (int attempt = 0; attempt < maxAttempts; attempt++) {
-            Point candidate = getSpawnPointOutsideCamera();
-            if (candidate == null) continue;
-
-            int dx = candidate.x - playerReference.getX();
-            int dy = candidate.y - playerReference.getY();
-            double distance = Math.sqrt(dx * dx + dy * dy);
+            sampleSpawnRing(spawnPoint);
+            if (wallManager != null && wallManager.isWall(spawnPoint.x, spawnPoint.y)) continue;
 
-            if (distance >= MIN_DISTANCE_FROM_PLAYER) {
-                return candidate;
+            if (playerReference == null) {
+                return spawnPoint;
             }
-        }
 
-        return getSpawnPointOutsideCamera();
-    }
-
-    private Point getSpawnPointOutsideCamera() {
-        ArrayList<Point> spawnPoints = new ArrayList<>();
-
-        int cameraX = gamePanel.getCameraX();
-        int cameraY = gamePanel.getCameraY();
-
-        int cameraLeft = cameraX;
-        int cameraRight = cameraX + GamePanel.PANEL_WIDTH;
-        int cameraTop = cameraY;
-        int cameraBottom = cameraY + GamePanel.PANEL_HEIGHT;
-
-        int spawnLeft = cameraLeft - SPAWN_DISTANCE_FROM_CAMERA;
-        int spawnRight = cameraRight + SPAWN_DISTANCE_FROM_CAMERA;
-        int spawnTop = cameraTop - SPAWN_DISTANCE_FROM_CAMERA;
-        int spawnBottom = cameraBottom + SPAWN_DISTANCE_FROM_CAMERA;
-
-        int blockSize = GamePanel.BLOCK_SIZE;
-
-        for (int y = spawnTop; y <= spawnBottom; y += blockSize) {
-            for (int x = spawnLeft; x < cameraLeft; x += blockSize) {
-                spawnPoints.add(new Point(x, y));
+            long dx = spawnPoint.x - playerReference.getX();
+            long dy = spawnPoint.y - playerReference.getY();
+            if (dx * dx + dy * dy >= minDistanceSq) {
+                return spawnPoint;
             }
-        }
-
-        for (int y = spawnTop; y <= spawnBottom; y += blockSize) {
-            for (int x = cameraRight; x <= spawnRight; x += blockSize) {
-                spawnPoints.add(new Point(x, y));
+            if (fallback == null) {
+                fallback = fallbackPoint;
+                fallback.setLocation(spawnPoint);
             }
         }
 
-        for (int x = spawnLeft; x <= spawnRight; x += blockSize) {
-            for (int y = spawnTop; y < cameraTop; y += blockSize) {
-                spawnPoints.add(new Point(x, y));
-            }
-        }
+        return fallback;
+    }
 
-        for (int x = spawnLeft; x <= spawnRight; x += blockSize) {
-            for (int y = cameraBottom; y <= spawnBottom; y += blockSize) {
-                spawnPoints.add(new Point(x, y));
+    /**
+     * Samples a uniformly random cell of the block grid covering the band of width
+     * SPAWN_DISTANCE_FROM_CAMERA around the visible area. The band is split into
+     * top, bottom, left and right strips that do not overlap, and a single random
+     * index is mapped into them, so no candidate list has to be built.
+     */
+    private void sampleSpawnRing(Point out) {
+        int blockSize = GamePanel.BLOCK_SIZE;
+        int cols = (GamePanel.PANEL_WIDTH + 2 * SPAWN_DISTANCE_FROM_CAMERA) / blockSize + 1;
+        int rows = (GamePanel.PANEL_HEIGHT + 2 * SPAWN_DISTANCE_FROM_CAMERA) / blockSize + 1;
+
+        // Columns and rows whose cells fall inside the visible area.
+        int innerColStart = ceilDiv(SPAWN_DISTANCE_FROM_CAMERA, blockSize);
+        int innerColEnd = Math.min(cols, ceilDiv(SPAWN_DISTANCE_FROM_CAMERA + GamePanel.PANEL_WIDTH, blockSize));
+        int innerRowStart = ceilDiv(SPAWN_DISTANCE_FROM_CAMERA, blockSize);
+        int innerRowEnd = Math.min(rows, ceilDiv(SPAWN_DISTANCE_FROM_CAMERA + GamePanel.PANEL_HEIGHT, blockSize));
+
+        int topCells = cols * innerRowStart;
+        int bottomCells = cols * (rows - innerRowEnd);
+        int sideWidth = innerColStart + (cols - innerColEnd);
+        int sideCells = sideWidth * (innerRowEnd - innerRowStart);
+
+        int index = random.nextInt(topCells + bottomCells + sideCells);
+        int col;
+        int row;
+        if (index < topCells) {
+            row = index / cols;
+            col = index % cols;
+        } else if ((index -= topCells) < bottomCells) {
+            row = innerRowEnd + index / cols;
+            col = index % cols;
+        } else {
+            index -= bottomCells;
+            row = innerRowStart + index / sideWidth;
+            col = index % sideWidth;
+            if (col >= innerColStart) {
+                col = innerColEnd + (col - innerColStart);
             }
         }
 
-        if (!spawnPoints.isEmpty()) {
-            Point selectedPoint = spawnPoints.get((int) (Math.random() * spawnPoints.size()));
-            return selectedPoint;
-        }
+        out.x = GameLogic.cameraX - SPAWN_DISTANCE_FROM_CAMERA + col * blockSize;
+        out.y = GameLogic.cameraY - SPAWN_DISTANCE_FROM_CAMERA + row * blockSize;
+    }
 
-        System.err.println("WARNING: No spawn points available!");
-        return null;
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
     }
 
     public void removeDistantEnemies(int playerX, int playerY) {
-        enemies.removeIf(enemy -> {
-            if (enemy.getType() == Enemy.Type.DARK_MAGE_BOSS ||
-                    enemy.getType() == Enemy.Type.BUNNY_BOSS) {
-                return false;
-            }
-
-            int dx = enemy.getX() - playerX;
-            int dy = enemy.getY() - playerY;
-            double distance = Math.sqrt(dx * dx + dy * dy);
-
-            return distance > MAX_ENEMY_DISTANCE;
-        });
+        enemies.removeBeyond(playerX, playerY, MAX_ENEMY_DISTANCE);
     }
 
     /**
@@ -239,32 +281,9 @@ public class SpawningEnemies {
      * @param totalEnemies Maximum number of enemies to spawn (e.g., 10)
      */
     public void spawnTutorialEnemies(int totalEnemies) {
-        stopSpawning = false;
         pauseSpawning = false;
 
         System.out.println("Tutorial spawning: Will spawn " + totalEnemies + " enemies total");
-
-        spawnExecutor.execute(() -> {
-            int enemiesSpawned = 0;
-
-            while (!stopSpawning && enemiesSpawned < totalEnemies) {
-                if (!pauseSpawning) {
-                    Point spawnPoint = getSpawnPointAwayFromPlayer();
-                    if (spawnPoint != null) {
-                        enemies.add(new Enemy(spawnPoint.x, spawnPoint.y, 15, Enemy.Type.NORMAL));
-                        enemiesSpawned++;
-                        System.out.println("Tutorial: Spawned enemy " + enemiesSpawned + "/" + totalEnemies);
-                    }
-                }
-
-                try {
-                    TimeUnit.MILLISECONDS.sleep(3000);
-                } catch (InterruptedException e) {
-                    return;
-                }
-            }
-
-            System.out.println("Tutorial spawning complete: " + enemiesSpawned + " enemies spawned");
-        });
+        streams.add(new SpawnStream(Enemy.Type.NORMAL, 15, TUTORIAL_SPAWNS_PER_SECOND, totalEnemies));
     }
-}
\ No newline at end of file
+}
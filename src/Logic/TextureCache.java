@@ -0,0 +1,138 @@
+package Logic;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of decoded sprites.
+ * Each resource is decoded once, converted to the screen's pixel format, and the same
+ * image is handed to every caller. Scaled variants are cached separately per target
+ * size so sprites drawn at a fixed size can be blitted without rescaling every frame.
+ * Safe to use from any thread.
+ */
+public final class TextureCache {
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
+
+    private TextureCache() {
+    }
+
+    /**
+     * Returns the image at the given classpath resource, decoding it on first use.
+     *
+     * @param path Resource path, e.g. "/WATVA/Enemy/Small/Small.png"
+     * @return The shared image
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    public static BufferedImage get(String path) throws IOException {
+        BufferedImage image = cache.get(path);
+        if (image != null) return image;
+        return putIfAbsent(path, load(path));
+    }
+
+    /**
+     * Returns the image at the given resource scaled to the requested size with
+     * nearest-neighbour sampling, which keeps the hard edges of pixel-art sprites.
+     *
+     * @param path Resource path
+     * @param width Target width in pixels
+     * @param height Target height in pixels
+     * @return The shared image
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    public static BufferedImage get(String path, int width, int height) throws IOException {
+        return get(path, width, height, false);
+    }
+
+    /**
+     * Returns the image at the given resource scaled to the requested size.
+     *
+     * @param path Resource path
+     * @param width Target width in pixels
+     * @param height Target height in pixels
+     * @param smooth True to scale with area averaging, as used for map and wall tiles;
+     *               false for nearest-neighbour sampling
+     * @return The shared image
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    public static BufferedImage get(String path, int width, int height, boolean smooth) throws IOException {
+        String key = path + "@" + width + "x" + height + (smooth ? "~" : "");
+        BufferedImage image = cache.get(key);
+        if (image != null) return image;
+
+        BufferedImage source = get(path);
+        if (source.getWidth() == width && source.getHeight() == height) {
+            return putIfAbsent(key, source);
+        }
+        return putIfAbsent(key, scale(source, width, height, smooth));
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Creates a blank translucent image in the screen's pixel format.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    private static BufferedImage putIfAbsent(String key, BufferedImage image) {
+        BufferedImage previous = cache.putIfAbsent(key, image);
+        return previous != null ? previous : image;
+    }
+
+    private static BufferedImage load(String path) throws IOException {
+        try (InputStream in = TextureCache.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("Texture not found: " + path);
+            }
+            BufferedImage decoded = ImageIO.read(in);
+            if (decoded == null) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+            return toCompatible(decoded);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean smooth) {
+        BufferedImage scaled = createCompatibleImage(width, height);
+        Graphics2D g2d = scaled.createGraphics();
+        if (smooth) {
+            // Drawn at its own size, so the graphics' interpolation does not apply.
+            g2d.drawImage(source.getScaledInstance(width, height, Image.SCALE_SMOOTH), 0, 0, null);
+        } else {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        }
+        g2d.dispose();
+        return scaled;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) return image;
+
+        BufferedImage compatible = createCompatibleImage(image.getWidth(), image.getHeight());
+        if (compatible.getColorModel().equals(image.getColorModel())) return image;
+
+        Graphics2D g2d = compatible.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return compatible;
+    }
+}
@@ -0,0 +1,154 @@
+package Logic;
+
+import java.util.Arrays;
+
+/**
+ * Sparse bitset over an unbounded tile grid.
+ * Tiles are grouped into 64x64 chunks stored as one {@code long} per row and looked up
+ * through an open-addressing table keyed by packed chunk coordinates, so membership
+ * tests are constant time and allocation-free. Lookups never mutate the structure and
+ * are safe to run concurrently with each other, but not with writes.
+ */
+public class TileOccupancy {
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_TILES = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_TILES - 1;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys = new long[64];
+    private long[][] chunks = new long[64][];
+    private int chunkCount;
+    private int tileCount;
+
+    public TileOccupancy() {
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public boolean get(int tileX, int tileY) {
+        long[] rows = findChunk(chunkKey(tileX >> CHUNK_SHIFT, tileY >> CHUNK_SHIFT));
+        if (rows == null) return false;
+        return (rows[tileY & CHUNK_MASK] & (1L << (tileX & CHUNK_MASK))) != 0;
+    }
+
+    /**
+     * Marks a tile as occupied.
+     *
+     * @return true if the tile was previously free
+     */
+    public boolean set(int tileX, int tileY) {
+        long[] rows = findOrCreateChunk(chunkKey(tileX >> CHUNK_SHIFT, tileY >> CHUNK_SHIFT));
+        int row = tileY & CHUNK_MASK;
+        long bit = 1L << (tileX & CHUNK_MASK);
+        if ((rows[row] & bit) != 0) return false;
+        rows[row] |= bit;
+        tileCount++;
+        return true;
+    }
+
+    /**
+     * Marks a tile as free.
+     *
+     * @return true if the tile was previously occupied
+     */
+    public boolean clear(int tileX, int tileY) {
+        long[] rows = findChunk(chunkKey(tileX >> CHUNK_SHIFT, tileY >> CHUNK_SHIFT));
+        if (rows == null) return false;
+        int row = tileY & CHUNK_MASK;
+        long bit = 1L << (tileX & CHUNK_MASK);
+        if ((rows[row] & bit) == 0) return false;
+        rows[row] &= ~bit;
+        tileCount--;
+        return true;
+    }
+
+    /**
+     * Frees every tile and releases all chunks.
+     */
+    public void clearAll() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(chunks, null);
+        chunkCount = 0;
+        tileCount = 0;
+    }
+
+    /**
+     * @return Independent deep copy of this set
+     */
+    public TileOccupancy copy() {
+        TileOccupancy copy = new TileOccupancy();
+        copy.keys = keys.clone();
+        copy.chunks = new long[chunks.length][];
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                copy.chunks[i] = chunks[i].clone();
+            }
+        }
+        copy.chunkCount = chunkCount;
+        copy.tileCount = tileCount;
+        return copy;
+    }
+
+    public boolean isEmpty() {
+        return tileCount == 0;
+    }
+
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    private static long chunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xffffffffL);
+    }
+
+    private long[] findChunk(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        long k;
+        while ((k = keys[slot]) != EMPTY) {
+            if (k == key) return chunks[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private long[] findOrCreateChunk(long key) {
+        long[] rows = findChunk(key);
+        if (rows != null) return rows;
+
+        if ((chunkCount + 1) * 2 > keys.length) {
+            grow();
+        }
+        rows = new long[CHUNK_TILES];
+        insert(keys, chunks, key, rows);
+        chunkCount++;
+        return rows;
+    }
+
+    private void grow() {
+        long[] newKeys = new long[keys.length * 2];
+        long[][] newChunks = new long[keys.length * 2][];
+        Arrays.fill(newKeys, EMPTY);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                insert(newKeys, newChunks, keys[i], chunks[i]);
+            }
+        }
+        keys = newKeys;
+        chunks = newChunks;
+    }
+
+    private static void insert(long[] keys, long[][] chunks, long key, long[] rows) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        chunks[slot] = rows;
+        keys[slot] = key;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,76 @@
+package Logic;
+
+/**
+ * Describes one change to the wall grid, reported to {@link WallChangeListener}s.
+ * Local changes carry the inclusive tile bounds of the affected area; changes that
+ * replace the whole layout, such as entering or leaving the boss arena, are global.
+ */
+public final class WallChange {
+    private final int minTileX, minTileY, maxTileX, maxTileY;
+    private final boolean global;
+    private final int wallVersion;
+
+    private WallChange(int minTileX, int minTileY, int maxTileX, int maxTileY,
+                       boolean global, int wallVersion) {
+        this.minTileX = minTileX;
+        this.minTileY = minTileY;
+        this.maxTileX = maxTileX;
+        this.maxTileY = maxTileY;
+        this.global = global;
+        this.wallVersion = wallVersion;
+    }
+
+    /**
+     * @return A change confined to the given inclusive tile bounds
+     */
+    public static WallChange region(int minTileX, int minTileY, int maxTileX, int maxTileY, int wallVersion) {
+        return new WallChange(minTileX, minTileY, maxTileX, maxTileY, false, wallVersion);
+    }
+
+    /**
+     * @return A change that may have touched any tile
+     */
+    public static WallChange global(int wallVersion) {
+        return new WallChange(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                true, wallVersion);
+    }
+
+    /**
+     * @return True if the whole grid may have changed
+     */
+    public boolean isGlobal() {
+        return global;
+    }
+
+    public int getMinTileX() {
+        return minTileX;
+    }
+
+    public int getMinTileY() {
+        return minTileY;
+    }
+
+    public int getMaxTileX() {
+        return maxTileX;
+    }
+
+    public int getMaxTileY() {
+        return maxTileY;
+    }
+
+    /**
+     * @return Wall version right after this change
+     */
+    public int getWallVersion() {
+        return wallVersion;
+    }
+
+    /**
+     * @return True if any tile of the given inclusive bounds, grown by {@code margin}, changed
+     */
+    public boolean intersects(int tileMinX, int tileMinY, int tileMaxX, int tileMaxY, int margin) {
+        if (global) return true;
+        return tileMaxX >= minTileX - margin && tileMinX <= maxTileX + margin
+                && tileMaxY >= minTileY - margin && tileMinY <= maxTileY + margin;
+    }
+}
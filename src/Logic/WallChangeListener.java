@@ -0,0 +1,9 @@
+package Logic;
+
+/**
+ * Receives changes to the wall grid from a {@link WallManager}.
+ * Called on the simulation thread right after the tiles have changed.
+ */
+public interface WallChangeListener {
+    void onWallsChanged(WallChange change);
+}
@@ -0,0 +1,28 @@
+package Logic;
+
+/**
+ * Read-only view of which tiles of the wall grid are solid.
+ */
+public interface WallGrid {
+    /** Edge of the square regions tracked by {@link #getRegionVersion(int, int)}, in tiles. */
+    int REGION_TILES = 20;
+
+    /**
+     * @param tileX Tile column (world x divided by the block size, rounded down)
+     * @param tileY Tile row (world y divided by the block size, rounded down)
+     * @return True if the tile blocks movement
+     */
+    boolean isWallTile(int tileX, int tileY);
+
+    /**
+     * @return Counter that changes whenever any tile changes, for invalidating derived data
+     */
+    int getWallVersion();
+
+    /**
+     * @param regionX Region column (tile x divided by {@link #REGION_TILES}, rounded down)
+     * @param regionY Region row (tile y divided by {@link #REGION_TILES}, rounded down)
+     * @return Counter that changes whenever a tile in the region, or one bordering it, changes
+     */
+    int getRegionVersion(int regionX, int regionY);
+}
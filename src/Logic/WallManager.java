@@ -4,7 +4,6 @@ import Core.Game;
 import Player.Player;
 import UI.GamePanel;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -13,7 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
-public class WallManager {
+public class WallManager implements WallGrid {
     private List<WallPattern> temporaryWalls;
     private Map<String, List<Rectangle>> permanentChunkWalls;
     private Random random;
@@ -28,6 +27,19 @@ public class WallManager {
     private Point arenaCenter;
     private int arenaRadius;
 
+    private final TileOccupancy permanentTiles = new TileOccupancy();
+    private final TileOccupancy temporaryTiles = new TileOccupancy();
+    private final TileOccupancy arenaTiles = new TileOccupancy();
+    private int wallVersion;
+    private int permanentVersion;
+    private WallSnapshot snapshot;
+    private TileOccupancy permanentSnapshot;
+    private int permanentSnapshotVersion = -1;
+    private final Map<Long, Integer> regionVersions = new HashMap<>();
+    private int regionFloor;
+    private final List<WallChangeListener> changeListeners = new ArrayList<>();
+    private final LineOfSightCache clearPathCache = new LineOfSightCache(PathFinding.BODY_CLEARANCE);
+
     private Image[] temporaryWallImages;
     private Image[] permanentWallImages;
     private Image[] warningWallImages;
@@ -51,7 +63,7 @@ public class WallManager {
         this.temporaryWalls = new ArrayList<>();
         this.permanentChunkWalls = new HashMap<>();
         this.random = new Random();
-        this.lastSpawnTime = System.currentTimeMillis();
+        this.lastSpawnTime = GameClock.now();
         loadWallImages();
     }
 
@@ -62,17 +74,11 @@ public class WallManager {
 
         try {
             for (int i = 0; i < 6; i++) {
-                temporaryWallImages[i] = ImageIO.read(
-                        getClass().getResourceAsStream("/WATVA/Background/Wall" + (i + 1) + ".png")
-                ).getScaledInstance(WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, Image.SCALE_SMOOTH);
+                temporaryWallImages[i] = TextureCache.get("/WATVA/Background/Wall" + (i + 1) + ".png", WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, true);
 
-                permanentWallImages[i] = ImageIO.read(
-                        getClass().getResourceAsStream("/WATVA/Background/Wall6.png")
-                ).getScaledInstance(WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, Image.SCALE_SMOOTH);
+                permanentWallImages[i] = TextureCache.get("/WATVA/Background/Wall6.png", WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, true);
 
-                warningWallImages[i] = ImageIO.read(
-                        getClass().getResourceAsStream("/WATVA/Background/Wall" + (i + 7) + ".png")
-                ).getScaledInstance(WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, Image.SCALE_SMOOTH);
+                warningWallImages[i] = TextureCache.get("/WATVA/Background/Wall" + (i + 7) + ".png", WALL_BLOCK_SIZE, WALL_BLOCK_SIZE, true);
             }
         } catch (IOException | NullPointerException e) {
             System.err.println("Error loading wall images!");
@@ -85,6 +91,7 @@ public class WallManager {
         if (permanentChunkWalls.containsKey(chunkKey)) return;
 
         List<Rectangle> chunkWalls = new ArrayList<>();
+        boolean changed = false;
         Random chunkRand = new Random(chunkKey.hashCode());
         int structureCount = 2 + chunkRand.nextInt(3);
         int chunkWorldX = chunkX * GamePanel.BLOCK_SIZE * 20;
@@ -103,11 +110,22 @@ public class WallManager {
                         int blockX = wallX + col * WALL_BLOCK_SIZE;
                         int blockY = wallY + row * WALL_BLOCK_SIZE;
                         chunkWalls.add(new Rectangle(blockX, blockY, WALL_BLOCK_SIZE, WALL_BLOCK_SIZE));
+                        if (permanentTiles.set(toTile(blockX), toTile(blockY))) {
+                            wallVersion++;
+                            permanentVersion++;
+                            changed = true;
+                        }
                     }
                 }
             }
         }
         permanentChunkWalls.put(chunkKey, chunkWalls);
+
+        if (changed) {
+            int tileX = toTile(chunkWorldX);
+            int tileY = toTile(chunkWorldY);
+            fireWallChange(WallChange.region(tileX, tileY, tileX + 19, tileY + 19, wallVersion));
+        }
     }
 
     private void updateChunkWalls(Player player) {
@@ -129,10 +147,18 @@ public class WallManager {
             updateChunkWalls(player);
         }
 
+        syncTemporaryWallTiles();
+
         if (isBossWave) return;
 
-        long currentTime = System.currentTimeMillis();
-        temporaryWalls.removeIf(wall -> currentTime - wall.spawnTime >= wall.lifetime);
+        long currentTime = GameClock.now();
+        temporaryWalls.removeIf(wall -> {
+            if (currentTime - wall.spawnTime >= wall.lifetime) {
+                setTemporaryWallTiles(wall, false);
+                return true;
+            }
+            return false;
+        });
 
         if (currentTime - lastSpawnTime >= SPAWN_INTERVAL && temporaryWalls.size() < 15) {
             spawnNewTemporaryWall(player);
@@ -140,6 +166,48 @@ public class WallManager {
         }
     }
 
+    /**
+     * Mirrors the warning/solid/fade state of every temporary wall into the tile index.
+     */
+    private void syncTemporaryWallTiles() {
+        for (WallPattern wall : temporaryWalls) {
+            boolean solid = wall.isSolid();
+            if (solid != wall.indexedSolid) {
+                setTemporaryWallTiles(wall, solid);
+            }
+        }
+    }
+
+    private void setTemporaryWallTiles(WallPattern wall, boolean solid) {
+        if (wall.indexedSolid == solid) return;
+        wall.indexedSolid = solid;
+        wallVersion++;
+
+        int minTileX = Integer.MAX_VALUE, minTileY = Integer.MAX_VALUE;
+        int maxTileX = Integer.MIN_VALUE, maxTileY = Integer.MIN_VALUE;
+        for (int row = 0; row < wall.pattern.length; row++) {
+            for (int col = 0; col < wall.pattern[row].length; col++) {
+                if (wall.pattern[row][col] == 1) {
+                    int tileX = toTile(wall.x + col * WALL_BLOCK_SIZE);
+                    int tileY = toTile(wall.y + row * WALL_BLOCK_SIZE);
+                    if (solid) {
+                        temporaryTiles.set(tileX, tileY);
+                    } else {
+                        temporaryTiles.clear(tileX, tileY);
+                    }
+                    minTileX = Math.min(minTileX, tileX);
+                    minTileY = Math.min(minTileY, tileY);
+                    maxTileX = Math.max(maxTileX, tileX);
+                    maxTileY = Math.max(maxTileY, tileY);
+                }
+            }
+        }
+
+        if (minTileX <= maxTileX) {
+            fireWallChange(WallChange.region(minTileX, minTileY, maxTileX, maxTileY, wallVersion));
+        }
+    }
+
     private void spawnNewTemporaryWall(Player player) {
         int maxAttempts = 10;
 
@@ -202,7 +270,9 @@ public class WallManager {
     public void createBossArena(Player player) {
         arenaWalls.clear();
         arenaPillars.clear();
+        arenaTiles.clearAll();
         bossArenaActive = true;
+        wallVersion++;
 
         int centerX = player.getX();
         int centerY = player.getY();
@@ -220,6 +290,7 @@ public class WallManager {
                 wallX = (wallX / WALL_BLOCK_SIZE) * WALL_BLOCK_SIZE;
                 wallY = (wallY / WALL_BLOCK_SIZE) * WALL_BLOCK_SIZE;
                 arenaWalls.add(new Rectangle(wallX, wallY, WALL_BLOCK_SIZE, WALL_BLOCK_SIZE));
+                arenaTiles.set(toTile(wallX), toTile(wallY));
             }
         }
 
@@ -239,71 +310,147 @@ public class WallManager {
                             WALL_BLOCK_SIZE,
                             WALL_BLOCK_SIZE
                     ));
+                    arenaTiles.set(toTile(pillarX) + px, toTile(pillarY) + py);
                 }
             }
         }
+        fireWallChange(WallChange.global(wallVersion));
     }
 
     public Point getArenaCenter() { return arenaCenter; }
     public int getArenaRadius() { return arenaRadius; }
 
     public void clearBossArena() {
+        resetBossArena();
+        fireWallChange(WallChange.global(wallVersion));
+    }
+
+    private void resetBossArena() {
         bossArenaActive = false;
         arenaWalls.clear();
         arenaPillars.clear();
+        arenaTiles.clearAll();
         arenaCenter = null;
+        wallVersion++;
     }
 
     public void despawnTemporaryWalls() {
         temporaryWalls.clear();
+        temporaryTiles.clearAll();
+        wallVersion++;
+        fireWallChange(WallChange.global(wallVersion));
     }
 
-    public boolean isWall(int worldX, int worldY) {
-        if (bossArenaActive) {
-            for (Rectangle wall : arenaWalls) {
-                if (wall.contains(worldX, worldY)) return true;
-            }
-            for (Rectangle pillar : arenaPillars) {
-                if (pillar.contains(worldX, worldY)) return true;
+    /**
+     * Registers a listener notified whenever solid tiles appear or disappear.
+     */
+    public void addChangeListener(WallChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    private void fireWallChange(WallChange change) {
+        recordRegionVersions(change);
+        for (WallChangeListener listener : changeListeners) {
+            listener.onWallsChanged(change);
+        }
+    }
+
+    /**
+     * Stamps every region the change can affect with the new wall version. Tiles just
+     * outside a region count as well, since they decide which of its border tiles lead
+     * anywhere.
+     */
+    private void recordRegionVersions(WallChange change) {
+        if (change.isGlobal()) {
+            regionVersions.clear();
+            regionFloor = change.getWallVersion();
+            return;
+        }
+        int minRegionX = Math.floorDiv(change.getMinTileX() - 1, REGION_TILES);
+        int minRegionY = Math.floorDiv(change.getMinTileY() - 1, REGION_TILES);
+        int maxRegionX = Math.floorDiv(change.getMaxTileX() + 1, REGION_TILES);
+        int maxRegionY = Math.floorDiv(change.getMaxTileY() + 1, REGION_TILES);
+        for (int regionY = minRegionY; regionY <= maxRegionY; regionY++) {
+            for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+                regionVersions.put(regionKey(regionX, regionY), change.getWallVersion());
             }
-            return false;
         }
+    }
 
-        if (isPermanentWall(worldX, worldY)) return true;
+    static long regionKey(int regionX, int regionY) {
+        return ((long) regionX << 32) | (regionY & 0xffffffffL);
+    }
 
-        for (WallPattern wall : temporaryWalls) {
-            if (wall.isSolid() && wall.containsPoint(worldX, worldY)) {
-                return true;
-            }
+    public boolean isWall(int worldX, int worldY) {
+        return isWallTile(toTile(worldX), toTile(worldY));
+    }
+
+    /**
+     * Checks whether a tile of the wall grid is currently solid.
+     *
+     * @param tileX Tile column (world x divided by the block size, rounded down)
+     * @param tileY Tile row (world y divided by the block size, rounded down)
+     */
+    @Override
+    public boolean isWallTile(int tileX, int tileY) {
+        if (bossArenaActive) {
+            return arenaTiles.get(tileX, tileY);
         }
-        return false;
+        return permanentTiles.get(tileX, tileY) || temporaryTiles.get(tileX, tileY);
     }
 
-    private boolean isPermanentWall(int worldX, int worldY) {
-        for (List<Rectangle> chunkWalls : permanentChunkWalls.values()) {
-            for (Rectangle wall : chunkWalls) {
-                if (wall.contains(worldX, worldY)) return true;
-            }
+    /**
+     * @return Counter incremented whenever the set of solid tiles changes
+     */
+    @Override
+    public int getWallVersion() {
+        return wallVersion;
+    }
+
+    @Override
+    public int getRegionVersion(int regionX, int regionY) {
+        Integer regionVersion = regionVersions.get(regionKey(regionX, regionY));
+        return regionVersion != null ? regionVersion : regionFloor;
+    }
+
+    /**
+     * Returns an immutable copy of the current solid tiles for use off the simulation
+     * thread. The copy is reused until the walls change, and the permanent chunk walls,
+     * which only grow as new chunks are generated, are copied only when they changed.
+     */
+    public WallSnapshot snapshot() {
+        if (snapshot != null && snapshot.getWallVersion() == wallVersion) {
+            return snapshot;
         }
-        return false;
+        if (permanentSnapshotVersion != permanentVersion) {
+            permanentSnapshot = permanentTiles.copy();
+            permanentSnapshotVersion = permanentVersion;
+        }
+        snapshot = new WallSnapshot(permanentSnapshot, temporaryTiles.copy(), arenaTiles.copy(),
+                bossArenaActive, wallVersion, new HashMap<>(regionVersions), regionFloor);
+        return snapshot;
     }
 
-    public boolean hasLineOfSight(int x1, int y1, int x2, int y2) {
-        int steps = (int)(Math.hypot(x2 - x1, y2 - y1) / (WALL_BLOCK_SIZE / 4));
-        if (steps == 0) return true;
+    private boolean isPermanentWall(int worldX, int worldY) {
+        return permanentTiles.get(toTile(worldX), toTile(worldY));
+    }
 
-        double dx = (x2 - x1) / (double)steps;
-        double dy = (y2 - y1) / (double)steps;
+    public static int toTile(int worldCoordinate) {
+        return Math.floorDiv(worldCoordinate, WALL_BLOCK_SIZE);
+    }
 
-        for (int i = 0; i <= steps; i++) {
-            int checkX = (int)(x1 + dx * i);
-            int checkY = (int)(y1 + dy * i);
+    /**
+     * @return True if no solid tile touches the segment between the two points
+     */
+    public boolean hasLineOfSight(int x1, int y1, int x2, int y2) {
+        return GridRaycast.isClear(x1, y1, x2, y2, this);
+    }
 
-            if (isWall(checkX, checkY)) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * @return Cache for the enemy-body corridor test of {@link PathFinding#hasClearPath}
+     */
+    LineOfSightCache getClearPathCache() {
+        return clearPathCache;
     }
 
     public Point unstuckFromWall(int entityX, int entityY, int entityWidth, int entityHeight) {
@@ -368,8 +515,12 @@ public class WallManager {
 
     public void clearWalls() {
         temporaryWalls.clear();
+        temporaryTiles.clearAll();
         permanentChunkWalls.clear();
-        clearBossArena();
+        permanentTiles.clearAll();
+        permanentVersion++;
+        resetBossArena();
+        fireWallChange(WallChange.global(wallVersion));
     }
 
     public Image[] getTemporaryWallImages() { return temporaryWallImages; }
@@ -381,6 +532,7 @@ public class WallManager {
         long spawnTime;
         long lifetime;
         WallManager manager;
+        boolean indexedSolid = false;
 
         private static final long WARNING_DURATION = 500;
         private static final long SOLID_DURATION = 12000;
@@ -391,32 +543,15 @@ public class WallManager {
             this.y = y;
             this.pattern = pattern;
             this.manager = manager;
-            this.spawnTime = System.currentTimeMillis();
+            this.spawnTime = GameClock.now();
             this.lifetime = WARNING_DURATION + SOLID_DURATION + FADE_DURATION;
         }
 
         public boolean isSolid() {
-            long age = System.currentTimeMillis() - spawnTime;
+            long age = GameClock.now() - spawnTime;
             return age >= WARNING_DURATION && age < (WARNING_DURATION + SOLID_DURATION);
         }
 
-        public boolean containsPoint(int worldX, int worldY) {
-            for (int row = 0; row < pattern.length; row++) {
-                for (int col = 0; col < pattern[row].length; col++) {
-                    if (pattern[row][col] == 1) {
-                        int blockX = x + col * WALL_BLOCK_SIZE;
-                        int blockY = y + row * WALL_BLOCK_SIZE;
-
-                        if (worldX >= blockX && worldX < blockX + WALL_BLOCK_SIZE &&
-                                worldY >= blockY && worldY < blockY + WALL_BLOCK_SIZE) {
-                            return true;
-                        }
-                    }
-                }
-            }
-            return false;
-        }
-
         public boolean containsBlock(int blockX, int blockY) {
             for (int row = 0; row < pattern.length; row++) {
                 for (int col = 0; col < pattern[row].length; col++) {
@@ -434,7 +569,7 @@ public class WallManager {
         }
 
         public void draw(Graphics2D g2d) {
-            long age = System.currentTimeMillis() - spawnTime;
+            long age = GameClock.now() - spawnTime;
             Image texture = null;
 
             if (age < WARNING_DURATION) {
@@ -0,0 +1,51 @@
+package Logic;
+
+import java.util.Map;
+
+/**
+ * Immutable copy of the solid tiles at one wall version.
+ * Snapshots are never written after construction, so any number of threads may query
+ * one while the live {@link WallManager} keeps changing.
+ */
+public final class WallSnapshot implements WallGrid {
+    private final TileOccupancy permanentTiles;
+    private final TileOccupancy temporaryTiles;
+    private final TileOccupancy arenaTiles;
+    private final boolean bossArenaActive;
+    private final int version;
+    private final Map<Long, Integer> regionVersions;
+    private final int regionFloor;
+
+    WallSnapshot(TileOccupancy permanentTiles, TileOccupancy temporaryTiles, TileOccupancy arenaTiles,
+                 boolean bossArenaActive, int version, Map<Long, Integer> regionVersions, int regionFloor) {
+        this.permanentTiles = permanentTiles;
+        this.temporaryTiles = temporaryTiles;
+        this.arenaTiles = arenaTiles;
+        this.bossArenaActive = bossArenaActive;
+        this.version = version;
+        this.regionVersions = regionVersions;
+        this.regionFloor = regionFloor;
+    }
+
+    @Override
+    public boolean isWallTile(int tileX, int tileY) {
+        if (bossArenaActive) {
+            return arenaTiles.get(tileX, tileY);
+        }
+        return permanentTiles.get(tileX, tileY) || temporaryTiles.get(tileX, tileY);
+    }
+
+    /**
+     * @return Wall version of the {@link WallManager} this was taken from
+     */
+    @Override
+    public int getWallVersion() {
+        return version;
+    }
+
+    @Override
+    public int getRegionVersion(int regionX, int regionY) {
+        Integer regionVersion = regionVersions.get(WallManager.regionKey(regionX, regionY));
+        return regionVersion != null ? regionVersion : regionFloor;
+    }
+}
@@ -1,3 +1,4 @@
+import Core.Game;
 import MainMenu.MainMenuPanel;
 import javax.swing.*;
 
@@ -6,6 +7,12 @@ public class Main {
     private static MainMenuPanel currentMenu = null;
 
     public static void main(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--active-rendering")) {
+                Game.setActiveRendering(true);
+            }
+        }
+
         SwingUtilities.invokeLater(() -> {
             if (currentMenu != null) {
                 currentMenu.dispose();
@@ -1,5 +1,7 @@
 package Player;
 
+import Logic.GameClock;
+
 import java.awt.*;
 
 /**
@@ -25,7 +27,7 @@ public class Explosion {
         this.x = x;
         this.y = y;
         this.maxRadius = maxRadius;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = GameClock.now();
     }
 
     /**
@@ -34,7 +36,7 @@ public class Explosion {
      * @return true if explosion duration has elapsed, false otherwise
      */
     public boolean isComplete() {
-        return System.currentTimeMillis() - startTime > duration;
+        return GameClock.now() - startTime > duration;
     }
 
     /**
@@ -42,7 +44,7 @@ public class Explosion {
      * Should be called each frame to animate the explosion.
      */
     public void update() {
-        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elapsedTime = GameClock.now() - startTime;
         currentRadius = (int) ((elapsedTime / (double) duration) * maxRadius);
     }
 
@@ -53,7 +55,7 @@ public class Explosion {
      * @param g The Graphics context to render to
      */
     public void draw(Graphics g) {
-        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elapsedTime = GameClock.now() - startTime;
         float progress = Math.min(elapsedTime / (float) duration, 1.0f);
 
         int r = 255;
@@ -77,6 +79,18 @@ public class Explosion {
         return dx * dx + dy * dy <= currentRadius * currentRadius;
     }
 
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getCurrentRadius() {
+        return currentRadius;
+    }
+
     public boolean hasDamaged() {
         return hasDamaged;
     }
@@ -1,6 +1,7 @@
 package Player;
 
 import Core.Game;
+import Logic.GameClock;
 import Logic.WallManager;
 
 import java.awt.*;
@@ -45,7 +46,7 @@ public class Player implements Serializable {
     private int currentFrame = 0;
     private long lastFrameChange = 0;
     private long frameDuration = 200;
-    private long lastMovementTime = System.currentTimeMillis();
+    private long lastMovementTime = GameClock.now();
     private long idleAnimationStartTime = 0;
 
     private long explosionCooldown = 5000;
@@ -87,7 +88,7 @@ public class Player implements Serializable {
         this.y = y;
         this.hp = Math.min(hp, 500);
         this.maxHp = Math.min(hp, 500);
-        this.lastHpRegenerationTime = System.currentTimeMillis();
+        this.lastHpRegenerationTime = GameClock.now();
         initializeTransientFields();
         addMouseMotionListener(new MouseMotionListener() {
             @Override
@@ -126,7 +127,7 @@ public class Player implements Serializable {
     }
 
     public boolean canUseExplosion() {
-        return System.currentTimeMillis() - lastExplosionTime >= explosionCooldown;
+        return GameClock.now() - lastExplosionTime >= explosionCooldown;
     }
 
     /**
@@ -135,7 +136,7 @@ public class Player implements Serializable {
      */
     public void triggerExplosion() {
         explosions.add(new Explosion(x + WIDTH / 2, y + HEIGHT / 2, explosionRange));
-        lastExplosionTime = System.currentTimeMillis();
+        lastExplosionTime = GameClock.now();
     }
 
     /**
@@ -178,7 +179,7 @@ public class Player implements Serializable {
             Player player = (Player) ois.readObject();
             player.initializeTransientFields();
             if (player.lastHpRegenerationTime == 0) {
-                player.lastHpRegenerationTime = System.currentTimeMillis();
+                player.lastHpRegenerationTime = GameClock.now();
             }
             System.out.println("Player state loaded successfully: x=" + player.getX() +
                     ", y=" + player.getY() + ", hp=" + player.getHp() + ", coins=" + player.getCoins());
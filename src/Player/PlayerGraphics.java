@@ -1,10 +1,11 @@
 package Player;
 
+import Logic.GameClock;
 import Logic.GameLogic;
+import Logic.TextureCache;
 import UI.GamePanel;
 import Core.Game;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 
@@ -38,9 +39,9 @@ public class PlayerGraphics {
         downTextures = loadTextures("Player13", "Player14", "Player15", "Player16");
         idleTextures = loadTextures("Player17", "Player18", "Player19", "Player20");
         try {
-            hpBarFrame1 = ImageIO.read(getClass().getResourceAsStream("/WATVA/Player/HPBar1.png"));
-            hpBarFrame2 = ImageIO.read(getClass().getResourceAsStream("/WATVA/Player/HPBar2.png"));
-            hpBarFrame3 = ImageIO.read(getClass().getResourceAsStream("/WATVA/Player/HPBar3.png"));
+            hpBarFrame1 = TextureCache.get("/WATVA/Player/HPBar1.png");
+            hpBarFrame2 = TextureCache.get("/WATVA/Player/HPBar2.png");
+            hpBarFrame3 = TextureCache.get("/WATVA/Player/HPBar3.png");
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -56,7 +57,7 @@ public class PlayerGraphics {
         Image[] textures = new Image[filenames.length];
         try {
             for (int i = 0; i < filenames.length; i++) {
-                textures[i] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Player/" + filenames[i] + ".png"));
+                textures[i] = TextureCache.get("/WATVA/Player/" + filenames[i] + ".png");
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -181,7 +182,7 @@ public class PlayerGraphics {
      * @param g The Graphics context to render to
      */
     private void drawDashCooldown(Graphics g) {
-        long timeSinceLastDash = System.currentTimeMillis() - player.getLastDashTime();
+        long timeSinceLastDash = GameClock.now() - player.getLastDashTime();
         if (timeSinceLastDash < player.getDashCooldown()) {
             double percentage = 1 - (double) timeSinceLastDash / player.getDashCooldown();
 
@@ -202,7 +203,7 @@ public class PlayerGraphics {
      * @param g The Graphics context to render to
      */
     private void drawExplosionCooldown(Graphics g) {
-        long timeSinceLastExplosion = System.currentTimeMillis() - player.getLastExplosionTime();
+        long timeSinceLastExplosion = GameClock.now() - player.getLastExplosionTime();
         if (timeSinceLastExplosion < player.getExplosionCooldown()) {
             double percentage = 1 - (double) timeSinceLastExplosion / player.getExplosionCooldown();
 
@@ -1,5 +1,6 @@
 package Player;
 
+import Logic.GameClock;
 import Logic.WallManager;
 
 import java.awt.event.KeyEvent;
@@ -42,7 +43,7 @@ public class PlayerMovement {
      */
     public void move(WallManager wallManager) {
         boolean moving = false;
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
 
         if (player.getShieldLevel() > 0 && currentTime - player.getLastShieldRegenerationTime() >= Player.SHIELD_REGENERATION_INTERVAL) {
             player.setShieldHP(Math.min(player.getShieldHP() + 1, Player.MAX_SHIELD_HP));
@@ -176,7 +177,7 @@ public class PlayerMovement {
      * @return true if dash can be used, false otherwise
      */
     private boolean canDash() {
-        return System.currentTimeMillis() - player.getLastDashTime() >= player.getDashCooldown();
+        return GameClock.now() - player.getLastDashTime() >= player.getDashCooldown();
     }
 
     /**
@@ -186,7 +187,7 @@ public class PlayerMovement {
     private void startDash() {
         dashing = true;
         dashProgress = 0;
-        player.setLastDashTime(System.currentTimeMillis());
+        player.setLastDashTime(GameClock.now());
 
         dashDirectionX = 0;
         dashDirectionY = 0;
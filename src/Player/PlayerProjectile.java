@@ -1,7 +1,8 @@
 package Player;
 
 import Core.Game;
-import javax.imageio.ImageIO;
+import Logic.GameClock;
+import Logic.TextureCache;
 import java.awt.*;
 import java.io.IOException;
 
@@ -56,10 +57,9 @@ public class PlayerProjectile {
 
         bulletTextures = new Image[4];
         try {
-            bulletTextures[0] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Projectiles/Basic_player_projectile1.png"));
-            bulletTextures[1] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Projectiles/Basic_player_projectile2.png"));
-            bulletTextures[2] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Projectiles/Basic_player_projectile3.png"));
-            bulletTextures[3] = ImageIO.read(getClass().getResourceAsStream("/WATVA/Projectiles/Basic_player_projectile4.png"));
+            for (int i = 0; i < bulletTextures.length; i++) {
+                bulletTextures[i] = TextureCache.get("/WATVA/Projectiles/Basic_player_projectile" + (i + 1) + ".png", SIZE, SIZE);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -75,7 +75,7 @@ public class PlayerProjectile {
         y += velocityY;
         distanceTravelled += speed;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.now();
         if (currentTime - lastFrameChange >= frameDuration) {
             currentFrame = (currentFrame + 1) % bulletTextures.length;
             lastFrameChange = currentTime;
@@ -0,0 +1,84 @@
+package UI;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Heavyweight drawing surface for active rendering.
+ * Frames are drawn straight into a page-flipped (or accelerated blit) back buffer and
+ * presented explicitly, bypassing the RepaintManager.
+ */
+public class GameCanvas extends Canvas {
+    private static final int BUFFER_COUNT = 2;
+
+    private final Consumer<Graphics2D> painter;
+    private volatile BufferStrategy strategy;
+
+    /**
+     * Creates a canvas that draws each frame with the given painter.
+     *
+     * @param painter Draws one complete frame onto the supplied graphics
+     */
+    public GameCanvas(Consumer<Graphics2D> painter) {
+        this.painter = painter;
+        setBackground(Color.BLACK);
+        setFocusable(false);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(BUFFER_COUNT);
+        strategy = getBufferStrategy();
+    }
+
+    @Override
+    public void removeNotify() {
+        BufferStrategy current = strategy;
+        strategy = null;
+        if (current != null) {
+            current.dispose();
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Draws and presents one frame. Safe to call from the game loop thread.
+     *
+     * @return false if the canvas is not on screen and nothing was drawn
+     */
+    public synchronized boolean renderFrame() {
+        BufferStrategy current = strategy;
+        if (current == null || !isShowing() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) current.getDrawGraphics();
+                try {
+                    g2d.setColor(getBackground());
+                    g2d.fillRect(0, 0, getWidth(), getHeight());
+                    painter.accept(g2d);
+                } finally {
+                    g2d.dispose();
+                }
+            } while (current.contentsRestored());
+            current.show();
+        } while (current.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        renderFrame();
+    }
+}
@@ -3,6 +3,7 @@ package UI;
 import Core.Game;
 import Logic.DamageNumber.DamageNumberManager;
 import Logic.FPSCounter;
+import Logic.FrameProfiler;
 import Logic.GameLogic;
 import MainMenu.MainMenuPanel;
 import Player.Player;
@@ -15,7 +16,7 @@ import java.io.*;
 import java.net.URL;
 import javax.swing.*;
 
-public class GamePanel extends JPanel implements ActionListener {
+public class GamePanel extends JPanel {
     public static final int PANEL_WIDTH = Game.getScaledGameWidth();
     public static final int PANEL_HEIGHT = Game.getScaledGameHeight();
     public static final int BLOCK_SIZE = Game.scale(64);
@@ -34,12 +35,16 @@ public class GamePanel extends JPanel implements ActionListener {
     private Font pixelPurlFont;
     private GameRenderer renderer;
     private GameLogic gameLogic;
-    private boolean mousePressed = false;
-    private int currentMouseX, currentMouseY;
+    private volatile boolean mousePressed = false;
+    private volatile int currentMouseX, currentMouseY;
     private DamageNumberManager damageManager = new DamageNumberManager();
     private LevelMapPanel levelMapPanel;
     private boolean menuVisible = false;
     private FPSCounter fpsCounter = new FPSCounter();
+    private GameCanvas gameCanvas;
+    private volatile boolean profilerOverlayVisible = false;
+    private MouseAdapter mouseInput;
+    private MouseMotionAdapter mouseMotionInput;
 
     private TutorialManager tutorialManager;
     private boolean isTutorialMode;
@@ -71,6 +76,7 @@ public class GamePanel extends JPanel implements ActionListener {
         }
 
         renderer = new GameRenderer(this, pixelPurlFont);
+        initializeActiveRendering();
 
         if (!tutorialMode) {
             showLevelMap();
@@ -193,43 +199,62 @@ public class GamePanel extends JPanel implements ActionListener {
         addKeyListener(new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                if (isTutorialMode && tutorialManager != null) {
-                    if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-                        tutorialManager.handleSpacePress();
-                        return;
-                    }
-                    if (e.getKeyCode() == KeyEvent.VK_Q) {
-                        tutorialManager.onPlayerExplosion();
+                if (e.getKeyCode() == KeyEvent.VK_F3) {
+                    profilerOverlayVisible = !profilerOverlayVisible;
+                    repaint();
+                    return;
+                }
+                if (e.getKeyCode() == KeyEvent.VK_PAGE_UP) {
+                    gameLogic.setGameSpeed(gameLogic.getGameSpeed() * 2);
+                    return;
+                }
+                if (e.getKeyCode() == KeyEvent.VK_PAGE_DOWN) {
+                    gameLogic.setGameSpeed(gameLogic.getGameSpeed() / 2);
+                    return;
+                }
+                synchronized (gameLogic.getGameLoop().getStateLock()) {
+                    if (isTutorialMode && tutorialManager != null) {
+                        if (e.getKeyCode() == KeyEvent.VK_SPACE) {
+                            tutorialManager.handleSpacePress();
+                            return;
+                        }
+                        if (e.getKeyCode() == KeyEvent.VK_Q) {
+                            tutorialManager.onPlayerExplosion();
+                        }
+                        if (e.getKeyCode() == KeyEvent.VK_SHIFT) {
+                            tutorialManager.onPlayerDash();
+                        }
+                        tutorialManager.onPlayerMove(e.getKeyCode());
                     }
-                    if (e.getKeyCode() == KeyEvent.VK_SHIFT) {
-                        tutorialManager.onPlayerDash();
+                    if (!isTutorialMode || !tutorialManager.isGameFrozen()) {
+                        gameLogic.getPlayer().keyPressed(e);
                     }
-                    tutorialManager.onPlayerMove(e.getKeyCode());
-                }
-                if (!isTutorialMode || !tutorialManager.isGameFrozen()) {
-                    gameLogic.getPlayer().keyPressed(e);
                 }
             }
 
             @Override
             public void keyReleased(KeyEvent e) {
-                if (!isTutorialMode || !tutorialManager.isGameFrozen()) {
-                    gameLogic.getPlayer().keyReleased(e);
+                synchronized (gameLogic.getGameLoop().getStateLock()) {
+                    if (!isTutorialMode || !tutorialManager.isGameFrozen()) {
+                        gameLogic.getPlayer().keyReleased(e);
+                    }
                 }
             }
         });
 
-        addMouseListener(new MouseAdapter() {
+        mouseInput = new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
-                if (isTutorialMode && tutorialManager != null) {
-                    tutorialManager.handleReminderBoxClick(e.getX(), e.getY());
-                }
-                if ((!isTutorialMode || !tutorialManager.isGameFrozen()) && !gameLogic.isPaused()) {
-                    mousePressed = true;
-                    currentMouseX = e.getX() + getCameraX();
-                    currentMouseY = e.getY() + getCameraY();
-                    gameLogic.tryToShoot(currentMouseX, currentMouseY);
+                synchronized (gameLogic.getGameLoop().getStateLock()) {
+                    if (isTutorialMode && tutorialManager != null) {
+                        tutorialManager.handleReminderBoxClick(e.getX(), e.getY());
+                    }
+                    if ((!isTutorialMode || !tutorialManager.isGameFrozen()) && !gameLogic.isPaused()) {
+                        mousePressed = true;
+                        currentMouseX = e.getX() + getCameraX();
+                        currentMouseY = e.getY() + getCameraY();
+                        gameLogic.tryToShoot(currentMouseX, currentMouseY);
+                    }
                 }
             }
 
@@ -237,9 +262,9 @@ public class GamePanel extends JPanel implements ActionListener {
             public void mouseReleased(MouseEvent e) {
                 mousePressed = false;
             }
-        });
+        };
 
-        addMouseMotionListener(new MouseMotionAdapter() {
+        mouseMotionInput = new MouseMotionAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
                 if (!gameLogic.isPaused()) {
@@ -255,7 +280,67 @@ public class GamePanel extends JPanel implements ActionListener {
                     currentMouseY = e.getY() + getCameraY();
                 }
             }
-        });
+        };
+
+        addMouseListener(mouseInput);
+        addMouseMotionListener(mouseMotionInput);
+    }
+
+    /**
+     * Adds the BufferStrategy canvas underneath the overlay panels when active rendering is enabled.
+     * The canvas receives the same mouse input as the panel; keyboard focus stays on the panel.
+     */
+    private void initializeActiveRendering() {
+        if (!Game.isActiveRendering()) return;
+
+        if (gameCanvas == null) {
+            gameCanvas = new GameCanvas(this::renderFrame);
+            gameCanvas.addMouseListener(mouseInput);
+            gameCanvas.addMouseMotionListener(mouseMotionInput);
+            gameCanvas.setCursor(getCursor());
+        }
+        gameCanvas.setBounds(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+        add(gameCanvas);
+        setComponentZOrder(gameCanvas, getComponentCount() - 1);
+        updateRenderSurface();
+    }
+
+    private boolean isOverlayVisible() {
+        return menuVisible
+                || abilityPanel.isVisible()
+                || upgradePanelVisible
+                || (levelMapPanel != null && levelMapPanel.isVisible())
+                || (gameOverPanel != null && gameOverPanel.isVisible());
+    }
+
+    /**
+     * Shows the active rendering canvas only while no Swing overlay is open,
+     * so menus and panels are painted by Swing as usual.
+     */
+    private void updateRenderSurface() {
+        if (gameCanvas == null) return;
+        boolean showCanvas = !isOverlayVisible();
+        if (gameCanvas.isVisible() != showCanvas) {
+            gameCanvas.setVisible(showCanvas);
+            repaint();
+        }
+    }
+
+    /**
+     * Presents the latest simulation state. Called from the game loop thread after each batch of steps.
+     */
+    public void presentFrame() {
+        if (gameCanvas != null) {
+            if (gameLogic.isGameOver() && !upgradePanelVisible) {
+                SwingUtilities.invokeLater(this::onGameOver);
+            }
+            if (gameCanvas.isVisible() == isOverlayVisible()) {
+                SwingUtilities.invokeLater(this::updateRenderSurface);
+            } else if (gameCanvas.renderFrame()) {
+                return;
+            }
+        }
+        repaint();
     }
 
     public void toggleMenu() {
@@ -263,15 +348,20 @@ public class GamePanel extends JPanel implements ActionListener {
             menuPanel.setVisible(false);
             menuButton.setVisible(true);
             menuVisible = false;
-            if(!gameLogic.getEnemies().isEmpty()) {
-                gameLogic.resumeGame();
+            synchronized (gameLogic.getGameLoop().getStateLock()) {
+                if (!gameLogic.getEnemies().isEmpty()) {
+                    gameLogic.resumeGame();
+                }
             }
         } else {
             menuPanel.setVisible(true);
             menuButton.setVisible(false);
             menuVisible = true;
-            gameLogic.pauseGame();
+            synchronized (gameLogic.getGameLoop().getStateLock()) {
+                gameLogic.pauseGame();
+            }
         }
+        updateRenderSurface();
     }
 
     public void restartGame() {
@@ -296,6 +386,7 @@ public class GamePanel extends JPanel implements ActionListener {
         }
 
         renderer = new GameRenderer(this, pixelPurlFont);
+        initializeActiveRendering();
 
         menuVisible = false;
         upgradePanelVisible = false;
@@ -333,7 +424,10 @@ public class GamePanel extends JPanel implements ActionListener {
     public void startNextWaveAfterAbility() {
         abilityPanel.hidePanel();
         menuButton.setVisible(true);
-        gameLogic.nextWave();
+        updateRenderSurface();
+        synchronized (gameLogic.getGameLoop().getStateLock()) {
+            gameLogic.nextWave();
+        }
     }
 
     public void onGameOver() {
@@ -343,18 +437,23 @@ public class GamePanel extends JPanel implements ActionListener {
         }
         gameOverPanel.setVisible(true);
         menuButton.setVisible(false);
+        updateRenderSurface();
     }
 
     public void onWaveComplete() {
         menuButton.setVisible(false);
         abilityPanel.showPanel();
+        updateRenderSurface();
     }
 
     public void showLevelMap() {
         if (isTutorialMode) return;
         menuButton.setVisible(false);
-        gameLogic.pauseGame();
+        synchronized (gameLogic.getGameLoop().getStateLock()) {
+            gameLogic.pauseGame();
+        }
         levelMapPanel.showMap();
+        updateRenderSurface();
     }
 
     public void startLevel(int levelNumber) {
@@ -362,7 +461,10 @@ public class GamePanel extends JPanel implements ActionListener {
             levelMapPanel.hideMap();
         }
         menuButton.setVisible(true);
-        gameLogic.startLevel(levelNumber);
+        updateRenderSurface();
+        synchronized (gameLogic.getGameLoop().getStateLock()) {
+            gameLogic.startLevel(levelNumber);
+        }
     }
 
     public void onLevelComplete() {
@@ -383,32 +485,44 @@ public class GamePanel extends JPanel implements ActionListener {
         }
     }
 
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        fpsCounter.update();
+    /**
+     * Advances the game by one fixed simulation step.
+     * Called from the game loop thread while it holds the state lock.
+     */
+    public void tick() {
+        long tickStart = FrameProfiler.start();
+        runTick();
+        FrameProfiler.stop(FrameProfiler.Phase.TICK, tickStart);
+        FrameProfiler.rollWindowIfDue();
+    }
 
+    private void runTick() {
         if (isTutorialMode && tutorialManager != null) {
             tutorialManager.update();
             if (tutorialManager.isTutorialComplete()) {
-                JOptionPane.showMessageDialog(
-                        this,
-                        "Tutorial Complete!\nReturning to main menu...",
-                        "Well Done!",
-                        JOptionPane.INFORMATION_MESSAGE
-                );
-                returnToMainMenu();
+                gameLogic.pauseGame();
+                SwingUtilities.invokeLater(() -> {
+                    JOptionPane.showMessageDialog(
+                            this,
+                            "Tutorial Complete!\nReturning to main menu...",
+                            "Well Done!",
+                            JOptionPane.INFORMATION_MESSAGE
+                    );
+                    returnToMainMenu();
+                });
                 return;
             }
         }
 
         if (abilityPanel.isVisible()) {
-            abilityPanel.updateAbilityPanel();
+            SwingUtilities.invokeLater(abilityPanel::updateAbilityPanel);
         }
 
         boolean shouldUpdate = !isTutorialMode || !tutorialManager.isGameFrozen();
 
         if (shouldUpdate && mousePressed && !gameLogic.isPaused()) {
-            Point mousePoint = getMousePosition();
+            Component surface = gameCanvas != null && gameCanvas.isShowing() ? gameCanvas : this;
+            Point mousePoint = surface.getMousePosition();
             if (mousePoint != null) {
                 currentMouseX = mousePoint.x + getCameraX();
                 currentMouseY = mousePoint.y + getCameraY();
@@ -419,8 +533,6 @@ public class GamePanel extends JPanel implements ActionListener {
         if (shouldUpdate) {
             gameLogic.update(damageManager);
         }
-
-        repaint();
     }
 
     public void onTutorialProjectileFired() {
@@ -433,21 +545,37 @@ public class GamePanel extends JPanel implements ActionListener {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        renderer.render(g, gameLogic.getPlayer(), gameLogic.getEnemies(),
-                gameLogic.getPlayerProjectiles(), gameLogic.isGameOver(),
-                gameLogic.isPaused(), abilityPanelVisible, upgradePanelVisible,
-                gameLogic.getKillCount(), damageManager, gameLogic.getCrystalExplosion(),
-                menuVisible);
-
-        if (isTutorialMode && tutorialManager != null && tutorialManager.isTutorialActive()) {
-            tutorialManager.draw(g, 0, 0);
-        }
+        renderFrame(g);
 
         if (gameLogic.isGameOver() && !upgradePanelVisible) {
             onGameOver();
         }
     }
 
+    /**
+     * Draws the world and HUD. Used by both the Swing paint path and the active rendering canvas.
+     */
+    private void renderFrame(Graphics g) {
+        synchronized (gameLogic.getGameLoop().getStateLock()) {
+            long renderStart = FrameProfiler.start();
+            renderer.render(g, gameLogic.getPlayer(), gameLogic.getEnemies(),
+                    gameLogic.getPlayerProjectiles(), gameLogic.isGameOver(),
+                    gameLogic.isPaused(), abilityPanelVisible, upgradePanelVisible,
+                    gameLogic.getKillCount(), damageManager, gameLogic.getCrystalExplosion(),
+                    menuVisible);
+
+            if (isTutorialMode && tutorialManager != null && tutorialManager.isTutorialActive()) {
+                tutorialManager.draw(g, 0, 0);
+            }
+            FrameProfiler.stop(FrameProfiler.Phase.RENDER, renderStart);
+            fpsCounter.update();
+        }
+
+        if (profilerOverlayVisible) {
+            renderer.drawProfilerOverlay(g, fpsCounter.getCurrentFPS());
+        }
+    }
+
     public int getCameraX() { return gameLogic.getCameraX(); }
     public int getCameraY() { return gameLogic.getCameraY(); }
     public Player getPlayer() { return gameLogic.getPlayer(); }
@@ -4,6 +4,9 @@ import Core.Game;
 import Enemies.Enemy;
 import Logic.CrystalExplosion;
 import Logic.DamageNumber.DamageNumberManager;
+import Logic.EnemyStore;
+import Logic.FrameProfiler;
+import Logic.FrameProfiler.Phase;
 import Logic.GameLogic;
 import Logic.MapManager;
 import Logic.WallManager;
@@ -12,6 +15,7 @@ import Player.PlayerProjectile;
 
 import java.awt.*;
 import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.imageio.ImageIO;
 
@@ -70,7 +74,7 @@ public class GameRenderer {
     /**
      * Main rendering method that draws all game elements.
      */
-    public void render(Graphics g, Player player, CopyOnWriteArrayList<Enemy> enemies,
+    public void render(Graphics g, Player player, EnemyStore enemies,
                        CopyOnWriteArrayList<PlayerProjectile> playerProjectiles,
                        boolean gameOver, boolean isPaused, boolean abilityPanelVisible,
                        boolean upgradePanelVisible, int killCount, DamageNumberManager damageManager,
@@ -81,26 +85,54 @@ public class GameRenderer {
 
         g2d.translate(-GameLogic.cameraX, -GameLogic.cameraY);
 
-        drawBackground(g2d, player);
+        long passStart = FrameProfiler.start();
+        drawBackground(g2d);
+        FrameProfiler.stop(Phase.RENDER_BACKGROUND, passStart);
+
+        passStart = FrameProfiler.start();
         drawWalls(g2d);
+        FrameProfiler.stop(Phase.RENDER_WALLS, passStart);
+
+        passStart = FrameProfiler.start();
         drawEnemies(g2d, enemies);
+        FrameProfiler.stop(Phase.RENDER_ENEMIES, passStart);
+
+        passStart = FrameProfiler.start();
         damageManager.draw(g);
+        FrameProfiler.stop(Phase.RENDER_DAMAGE_NUMBERS, passStart);
+
+        passStart = FrameProfiler.start();
         drawArrows(g2d, playerProjectiles);
+        FrameProfiler.stop(Phase.RENDER_ARROWS, passStart);
+
+        passStart = FrameProfiler.start();
         drawBossEnemies(g2d, enemies);
+        FrameProfiler.stop(Phase.RENDER_BOSSES, passStart);
+
+        passStart = FrameProfiler.start();
         drawUI(g2d, player);
+        FrameProfiler.stop(Phase.RENDER_UI, passStart);
 
+        passStart = FrameProfiler.start();
         drawPlayer(g2d, player);
+        FrameProfiler.stop(Phase.RENDER_PLAYER, passStart);
 
         if (crystalExplosion != null) {
+            passStart = FrameProfiler.start();
             crystalExplosion.draw(g2d, GameLogic.cameraX, GameLogic.cameraY);
+            FrameProfiler.stop(Phase.RENDER_CRYSTAL, passStart);
         }
 
+        passStart = FrameProfiler.start();
         drawWaveProgressBar(g2d, gameOver, isPaused, enemies, killCount,
                 crystalExplosion != null, menuVisible);
+        FrameProfiler.stop(Phase.RENDER_PROGRESS_BAR, passStart);
 
         g2d.translate(GameLogic.cameraX, GameLogic.cameraY);
 
+        passStart = FrameProfiler.start();
         Enemy.drawAllProjectiles(g);
+        FrameProfiler.stop(Phase.RENDER_ENEMY_PROJECTILES, passStart);
 
         if (abilityPanelVisible) {
             g.setColor(new Color(0, 0, 0, 150));
@@ -109,21 +141,48 @@ public class GameRenderer {
     }
 
 
+    /**
+     * Draws the per-phase timing table from {@link FrameProfiler} in the top-right corner.
+     * Expects untranslated screen coordinates.
+     */
+    public void drawProfilerOverlay(Graphics g, int fps) {
+        Graphics2D g2d = (Graphics2D) g;
+        List<String> lines = FrameProfiler.formatReport();
+        lines.add(0, "FPS: " + fps);
+
+        g2d.setFont(new Font(Font.MONOSPACED, Font.PLAIN, Game.scale(9)));
+        FontMetrics metrics = g2d.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, metrics.stringWidth(line));
+        }
+
+        int padding = Game.scale(6);
+        int x = gamePanel.getWidth() - width - padding * 3;
+        int y = Game.scale(60);
+
+        g2d.setColor(new Color(0, 0, 0, 170));
+        g2d.fillRect(x - padding, y - padding, width + padding * 2, lines.size() * lineHeight + padding * 2);
+
+        g2d.setColor(Color.WHITE);
+        for (String line : lines) {
+            g2d.drawString(line, x, y + metrics.getAscent());
+            y += lineHeight;
+        }
+    }
+
     /**
      * Updates camera position to follow player while staying within map bounds.
      */
     private void updateCamera(Player player) {
-        int targetCameraX = player.getX() - GamePanel.CAMERA_WIDTH * 2;
-        int targetCameraY = player.getY() - GamePanel.CAMERA_HEIGHT * 2;
-
-        GameLogic.cameraX = targetCameraX;
-        GameLogic.cameraY = targetCameraY;
+        GameLogic.updateCamera(player);
     }
 
     /**
      * Draws boss enemies with special handling.
      */
-    private void drawBossEnemies(Graphics g, CopyOnWriteArrayList<Enemy> enemies) {
+    private void drawBossEnemies(Graphics g, EnemyStore enemies) {
         for (int i = 0; i < enemies.size(); i++) {
             Enemy enemy = enemies.get(i);
             if (enemy.getType() == Enemy.Type.BUNNY_BOSS || enemy.getType() == Enemy.Type.DARK_MAGE_BOSS) {
@@ -145,10 +204,10 @@ public class GameRenderer {
     /**
      * Draws the game background using tile images.
      */
-    private void drawBackground(Graphics g, Player player) {
+    private void drawBackground(Graphics g) {
         MapManager mm = gamePanel.getGameLogic().getMapManager();
         if (mm != null) {
-            mm.drawBackground(g, player);
+            mm.drawBackground(g);
         }
     }
 
@@ -162,7 +221,7 @@ public class GameRenderer {
     /**
      * Draws all regular enemies.
      */
-    private void drawEnemies(Graphics g, CopyOnWriteArrayList<Enemy> enemies) {
+    private void drawEnemies(Graphics g, EnemyStore enemies) {
         for (int i = 0; i < enemies.size(); i++) {
             Enemy enemy = enemies.get(i);
             enemy.draw(g);
@@ -215,7 +274,7 @@ public class GameRenderer {
      * Hidden when menu is visible, during explosion, or when paused.
      */
     private void drawWaveProgressBar(Graphics2D g2d, boolean gameOver, boolean isPaused,
-                                     CopyOnWriteArrayList<Enemy> enemies, int killCount,
+                                     EnemyStore enemies, int killCount,
                                      boolean waveCompletionActive, boolean menuVisible) {
         if (gameOver || isPaused || enemies.isEmpty() || gamePanel.getWaveNumber() % 10 == 0
                 || waveCompletionActive || menuVisible) return;
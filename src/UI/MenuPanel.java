@@ -43,7 +43,9 @@ public class MenuPanel extends JPanel {
         resumeButton.setBounds((menuPanelWidth - 200) / 2, 50, 200, 50);
         resumeButton.addActionListener(e -> {
             gamePanel.toggleMenu();
-            gameLogic.resumeGame();
+            synchronized (gameLogic.getGameLoop().getStateLock()) {
+                gameLogic.resumeGame();
+            }
         });
         add(resumeButton);
 